@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+
+/**
+ * Benchmarks of configuration metadata loading, as done by {@link SpringBootServiceImpl} on refresh.
+ * <p>
+ * Measures parsing of a metadata JSON file, compared with the Spring Boot metadata repository builder, building a snapshot
+ * out of the contributions of many classpath roots and splicing a changed root into an existing snapshot.
+ *
+ * @author Alessandro Falappa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataLoadBenchmark {
+
+    // properties per synthetic jar, in line with the larger Spring Boot starters
+    private static final int ROOT_SIZE = 500;
+
+    @Param({"1000", "10000", "100000"})
+    private int properties;
+    private byte[] json;
+    private LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> roots;
+    private MetadataSnapshot snapshot;
+    private String firstRoot;
+    private Map<String, ConfigurationMetadataProperty> changedRoot;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = SyntheticMetadata.generate(properties, 42);
+        roots = SyntheticMetadata.roots(parse(), ROOT_SIZE);
+        snapshot = MetadataSnapshot.EMPTY.update(roots);
+        firstRoot = roots.keySet().iterator().next();
+        // same content in a new map object counts as a changed root
+        changedRoot = new LinkedHashMap<>(roots.get(firstRoot));
+    }
+
+    @Benchmark
+    public Map<String, ConfigurationMetadataProperty> parse() throws IOException {
+        return MetadataJsonReader.read(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    public Map<String, ConfigurationMetadataProperty> parseWithBuilder() throws IOException {
+        return ConfigurationMetadataRepositoryJsonBuilder.create().withJsonResource(new ByteArrayInputStream(json)).build()
+                .getAllProperties();
+    }
+
+    @Benchmark
+    public MetadataSnapshot buildSnapshot() {
+        return MetadataSnapshot.EMPTY.update(roots);
+    }
+
+    @Benchmark
+    public MetadataSnapshot spliceRoot() {
+        return snapshot.splice(firstRoot, changedRoot, true);
+    }
+}
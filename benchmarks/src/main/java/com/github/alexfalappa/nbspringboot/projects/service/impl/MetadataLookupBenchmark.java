@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+import com.github.alexfalappa.nbspringboot.projects.service.api.PropertyType;
+
+/**
+ * Benchmarks of configuration metadata lookups, as done by {@link SpringBootServiceImpl} for validation and completion.
+ * <p>
+ * Each invocation queries the next of a fixed set of inputs: property names in relaxed forms (kebab case, camel case,
+ * snake case, with a trailing index), names in map notation and substring filters typed during completion.
+ *
+ * @author Alessandro Falappa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataLookupBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int properties;
+    private MetadataSnapshot snapshot;
+    private String[] relaxedNames;
+    private String[] mapNames;
+    private String[] filters;
+    private int idx;
+
+    @Setup
+    public void setUp() throws IOException {
+        final byte[] json = SyntheticMetadata.generate(properties, 42);
+        final Map<String, ConfigurationMetadataProperty> props = MetadataJsonReader.read(new ByteArrayInputStream(json));
+        snapshot = MetadataSnapshot.EMPTY.update(SyntheticMetadata.roots(props, 500));
+        final Random rnd = new Random(7);
+        final List<ConfigurationMetadataProperty> all = new ArrayList<>(props.values());
+        final List<String> maps = new ArrayList<>(snapshot.getMapProperties());
+        relaxedNames = new String[INPUTS];
+        mapNames = new String[INPUTS];
+        filters = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            final ConfigurationMetadataProperty prop = all.get(rnd.nextInt(all.size()));
+            relaxedNames[i] = relaxed(prop, i % 4);
+            mapNames[i] = maps.get(rnd.nextInt(maps.size())) + ".some-key" + i;
+            final String id = prop.getId();
+            final int start = rnd.nextInt(id.length() - 3);
+            filters[i] = id.substring(start, Math.min(id.length(), start + 3 + rnd.nextInt(6)));
+        }
+    }
+
+    @Benchmark
+    public ConfigurationMetadataProperty getPropertyMetadata() {
+        return snapshot.getByCanonicalName(CanonicalNames.canonicalize(relaxedNames[next()]));
+    }
+
+    @Benchmark
+    public ConfigurationMetadataProperty getPropertyMetadataMapNotation() {
+        return snapshot.getByCanonicalName(CanonicalNames.canonicalize(mapNames[next()]));
+    }
+
+    @Benchmark
+    public PropertyPrefixTrie.Match matchMapProperty() {
+        return snapshot.matchMapProperty(mapNames[next()]);
+    }
+
+    @Benchmark
+    public List<ConfigurationMetadataProperty> queryPropertyMetadata() {
+        return snapshot.getNameIndex().containing(filters[next()]);
+    }
+
+    private int next() {
+        idx = (idx + 1) & (INPUTS - 1);
+        return idx;
+    }
+
+    // a relaxed variant of the property name
+    private static String relaxed(ConfigurationMetadataProperty prop, int variant) {
+        final String id = prop.getId();
+        return switch (variant) {
+            case 1 -> camelCase(id);
+            case 2 -> id.replace('-', '_');
+            case 3 -> PropertyType.of(prop.getType()).isSequence() ? id + "[0]" : id;
+            default -> id;
+        };
+    }
+
+    private static String camelCase(String id) {
+        StringBuilder sb = new StringBuilder(id.length());
+        boolean upper = false;
+        for (char c : id.toCharArray()) {
+            if (c == '-') {
+                upper = true;
+            } else {
+                sb.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+}
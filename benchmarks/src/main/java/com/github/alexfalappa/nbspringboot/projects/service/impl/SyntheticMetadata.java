@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+/**
+ * Generator of synthetic {@code spring-configuration-metadata.json} content.
+ * <p>
+ * Property names, types and hints follow ratios observed in the metadata of Spring Boot starters: about 6% of properties
+ * are maps, 9% collections or arrays, a third have a default value, some are deprecated and some have value hints or
+ * providers. Output is deterministic for a given seed.
+ * <p>
+ * Can also be run from the command line: {@code SyntheticMetadata <properties> <output file> [seed]}.
+ *
+ * @author Alessandro Falappa
+ */
+public final class SyntheticMetadata {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String[] MODULES = {
+        "server", "datasource", "jpa", "security", "cache", "kafka", "rabbitmq", "redis", "mail", "jackson", "web",
+        "webflux", "actuator", "logging", "batch", "integration", "mongodb", "elasticsearch", "graphql", "session"
+    };
+    private static final String[] WORDS = {
+        "max", "min", "size", "timeout", "connection", "pool", "enabled", "path", "header", "buffer", "retry", "interval",
+        "name", "prefix", "suffix", "mode", "level", "threshold", "cache", "ssl", "key", "store", "password", "host",
+        "port", "url", "idle", "validation", "query", "batch", "fetch", "compression", "charset", "locale", "format"
+    };
+    private static final String[] SIMPLE_TYPES = {
+        "java.lang.String", "java.lang.String", "java.lang.String", "java.lang.Boolean", "java.lang.Boolean",
+        "java.lang.Integer", "java.lang.Long", "java.time.Duration", "org.springframework.util.unit.DataSize",
+        "java.nio.charset.Charset", "java.util.Locale", "org.springframework.core.io.Resource"
+    };
+    private static final String[] COLLECTION_TYPES = {
+        "java.util.List<java.lang.String>", "java.util.Set<java.lang.String>", "java.lang.String[]",
+        "java.util.List<java.lang.Integer>", "java.util.List<org.springframework.http.HttpMethod>"
+    };
+    private static final String[] MAP_TYPES = {
+        "java.util.Map<java.lang.String,java.lang.String>", "java.util.Map<java.lang.String,java.lang.Object>",
+        "java.util.Map<java.lang.String,java.util.List<java.lang.String>>",
+        "java.util.Map<java.lang.String,org.springframework.boot.logging.LogLevel>"
+    };
+
+    // prevent instantiation
+    private SyntheticMetadata() {
+    }
+
+    /**
+     * Generates metadata JSON.
+     *
+     * @param properties the number of properties
+     * @param seed the random seed
+     * @return the JSON content, UTF-8 encoded
+     */
+    public static byte[] generate(int properties, long seed) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(properties * 256);
+        try {
+            write(properties, seed, baos);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Splits parsed properties in classpath roots of the given size, as if they came from different jars.
+     *
+     * @param props the properties
+     * @param rootSize the number of properties per root
+     * @return the roots contributions in classpath order
+     */
+    public static LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> roots(
+            Map<String, ConfigurationMetadataProperty> props, int rootSize) {
+        LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> ret = new LinkedHashMap<>();
+        Map<String, ConfigurationMetadataProperty> root = null;
+        for (Map.Entry<String, ConfigurationMetadataProperty> entry : props.entrySet()) {
+            if (root == null || root.size() == rootSize) {
+                root = new LinkedHashMap<>();
+                ret.put(String.format("synthetic-%03d.jar", ret.size()), root);
+            }
+            root.put(entry.getKey(), entry.getValue());
+        }
+        return ret;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SyntheticMetadata <properties> <output file> [seed]");
+            System.exit(1);
+        }
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        try (OutputStream os = Files.newOutputStream(Path.of(args[1]))) {
+            write(Integer.parseInt(args[0]), seed, os);
+        }
+    }
+
+    private static void write(int properties, long seed, OutputStream os) throws IOException {
+        final Random rnd = new Random(seed);
+        Set<String> ids = new HashSet<>();
+        Set<String> groups = new LinkedHashSet<>();
+        List<String[]> hinted = new ArrayList<>();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(os, JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("properties");
+            while (ids.size() < properties) {
+                final String group = "acme." + MODULES[rnd.nextInt(MODULES.length)] + '.' + words(rnd, 1 + rnd.nextInt(2));
+                final String id = group + '.' + words(rnd, 1 + rnd.nextInt(3));
+                if (!ids.add(id)) {
+                    continue;
+                }
+                if (groups.size() < ids.size() / 8) {
+                    groups.add(group);
+                }
+                final int kind = rnd.nextInt(100);
+                final String type;
+                if (kind < 6) {
+                    type = MAP_TYPES[rnd.nextInt(MAP_TYPES.length)];
+                } else if (kind < 15) {
+                    type = COLLECTION_TYPES[rnd.nextInt(COLLECTION_TYPES.length)];
+                } else {
+                    type = SIMPLE_TYPES[rnd.nextInt(SIMPLE_TYPES.length)];
+                }
+                gen.writeStartObject();
+                gen.writeStringField("name", id);
+                gen.writeStringField("type", type);
+                gen.writeStringField("description", description(rnd, id));
+                gen.writeStringField("sourceType", "com.acme.autoconfigure." + capitalize(words(rnd, 1)) + "Properties");
+                if (rnd.nextInt(3) == 0) {
+                    writeDefault(gen, type, rnd);
+                }
+                if (rnd.nextInt(100) < 3) {
+                    gen.writeObjectFieldStart("deprecation");
+                    gen.writeStringField("level", rnd.nextBoolean() ? "warning" : "error");
+                    gen.writeStringField("replacement", id + "-new");
+                    gen.writeEndObject();
+                }
+                gen.writeEndObject();
+                if (rnd.nextInt(100) < 7) {
+                    hinted.add(new String[]{id, type});
+                }
+            }
+            gen.writeEndArray();
+            gen.writeArrayFieldStart("groups");
+            for (String group : groups) {
+                gen.writeStartObject();
+                gen.writeStringField("name", group);
+                gen.writeStringField("type", "com.acme.autoconfigure.GroupProperties");
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeArrayFieldStart("hints");
+            for (String[] hint : hinted) {
+                writeHint(gen, hint[0], hint[1], rnd);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeDefault(JsonGenerator gen, String type, Random rnd) throws IOException {
+        switch (type) {
+            case "java.lang.Boolean" ->
+                gen.writeBooleanField("defaultValue", rnd.nextBoolean());
+            case "java.lang.Integer", "java.lang.Long" ->
+                gen.writeNumberField("defaultValue", rnd.nextInt(10_000));
+            case "java.time.Duration" ->
+                gen.writeStringField("defaultValue", rnd.nextInt(120) + "s");
+            case "java.util.List<java.lang.String>", "java.util.Set<java.lang.String>", "java.lang.String[]" -> {
+                gen.writeArrayFieldStart("defaultValue");
+                for (int i = rnd.nextInt(4); i >= 0; i--) {
+                    gen.writeString(WORDS[rnd.nextInt(WORDS.length)]);
+                }
+                gen.writeEndArray();
+            }
+            default -> {
+                if (!type.startsWith("java.util.Map")) {
+                    gen.writeStringField("defaultValue", WORDS[rnd.nextInt(WORDS.length)]);
+                }
+            }
+        }
+    }
+
+    private static void writeHint(JsonGenerator gen, String id, String type, Random rnd) throws IOException {
+        final boolean map = type.startsWith("java.util.Map");
+        gen.writeStartObject();
+        gen.writeStringField("name", map ? id + ".keys" : id);
+        if (rnd.nextInt(4) == 0) {
+            gen.writeArrayFieldStart("providers");
+            gen.writeStartObject();
+            gen.writeStringField("name", rnd.nextBoolean() ? "logger-name" : "class-reference");
+            gen.writeEndObject();
+            gen.writeEndArray();
+        } else {
+            gen.writeArrayFieldStart("values");
+            for (int i = 2 + rnd.nextInt(6); i > 0; i--) {
+                gen.writeStartObject();
+                gen.writeStringField("value", words(rnd, 1 + rnd.nextInt(2)));
+                gen.writeStringField("description", "Synthetic value hint.");
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    // kebab-case name made of the given number of words
+    private static String words(Random rnd, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append('-');
+            }
+            sb.append(WORDS[rnd.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String description(Random rnd, String id) {
+        return String.format("Synthetic property %s. Controls the %s of the %s, when %s.", id,
+                words(rnd, 2).replace('-', ' '), words(rnd, 1), words(rnd, 2).replace('-', ' '));
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -19,15 +19,25 @@ import java.util.Set;
 
 import org.netbeans.contrib.yenta.Yenta;
 
+import com.github.alexfalappa.nbspringboot.projects.service.impl.HintSupport;
+
 /**
  * Avoid implementation dependencies by making the plugin friend of non-api modules.
  * <p>
  * Uses https://github.com/jglick/yenta
+ * <p>
+ * Also starts building in background the static data used by value completion.
  *
  * @author Alessandro Falappa
  */
 public class Installer extends Yenta {
 
+    @Override
+    public void restored() {
+        super.restored();
+        HintSupport.prepare();
+    }
+
     @Override
     protected Set<String> friends() {
         return Set.of(
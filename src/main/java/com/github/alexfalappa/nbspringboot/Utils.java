@@ -18,7 +18,10 @@ package com.github.alexfalappa.nbspringboot;
 import com.github.alexfalappa.nbspringboot.cfgprops.completion.items.FileObjectCompletionItem;
 import com.github.alexfalappa.nbspringboot.cfgprops.completion.items.ValueCompletionItem;
 import com.github.alexfalappa.nbspringboot.projects.customizer.BootPanel;
+import com.github.alexfalappa.nbspringboot.projects.service.api.ClassLoaderManager;
+import com.github.alexfalappa.nbspringboot.projects.service.api.DependencyIndex;
 import com.github.alexfalappa.nbspringboot.projects.service.impl.HintSupport;
+import com.github.alexfalappa.nbspringboot.projects.service.impl.ValueVocabulary;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
@@ -28,7 +31,6 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -44,9 +46,6 @@ import javax.swing.ImageIcon;
 import javax.swing.JComponent;
 import javax.swing.JPanel;
 import javax.swing.UIManager;
-import org.apache.maven.artifact.Artifact;
-import org.apache.maven.model.Dependency;
-import org.apache.maven.project.MavenProject;
 import org.netbeans.api.java.classpath.ClassPath;
 import org.netbeans.api.java.project.JavaProjectConstants;
 import org.netbeans.api.project.FileOwnerQuery;
@@ -270,31 +269,24 @@ public final class Utils {
     }
 
     public static void completeCharset(String filter, Consumer<ValueHint> consumer) {
-        complete(HintSupport.getAllCharsets().stream(), filter, consumer);
+        complete(HintSupport.getCharsets(), filter, consumer);
     }
 
     public static void completeLocale(String filter, Consumer<ValueHint> consumer) {
-        complete(HintSupport.getAllLocales().stream(), filter, consumer);
+        complete(HintSupport.getLocales(), filter, consumer);
     }
 
     public static void completeMimetype(String filter, Consumer<ValueHint> consumer) {
-        complete(HintSupport.MIMETYPES.stream(), filter, consumer);
+        complete(HintSupport.getMimeTypes(), filter, consumer);
     }
 
     public static void completeEnum(ClassPath cp, String dataType, String filter, Consumer<ValueHint> consumer) {
-        try {
-            Object[] enumvals = cp.getClassLoader(true).loadClass(dataType).getEnumConstants();
-            if (enumvals != null) {
-                Arrays.stream(enumvals)
-                    .map(Object::toString)
-                    .map(String::toLowerCase)
-                    .filter(valName -> filter == null || valName.contains(filter))
-                    .map(Utils::createEnumHint)
-                    .forEach(consumer);
-            }
-        } catch (ClassNotFoundException ex) {
-            // enum not available in project classpath, no completion possible
-        }
+        // enum constants are read from the class file, an enum not in the project classpath gives no completion
+        ClassLoaderManager.forClassPath(cp).getTypeShape(dataType).ifPresent(shape -> shape.enumConstants().stream()
+                .map(String::toLowerCase)
+                .filter(valName -> filter == null || valName.contains(filter))
+                .map(Utils::createEnumHint)
+                .forEach(consumer));
     }
 
     public static void completeSpringResource(FileObject resourcesFolder, String filter, CompletionResultSet completionResultSet,
@@ -455,9 +447,7 @@ public final class Utils {
      * @return true if the project has a dependency artifactId containing the search string
      */
     public static boolean dependencyArtifactIdContains(NbMavenProject nbMvn, String search) {
-        return nbMvn.getMavenProject().getDependencies().stream()
-            .map(Dependency::getArtifactId)
-            .anyMatch(id -> id.contains(search));
+        return DependencyIndex.of(nbMvn.getMavenProject()).hasDirectArtifactIdContaining(search);
     }
 
     /**
@@ -473,10 +463,11 @@ public final class Utils {
             .map(NbMavenProjectImpl.class::cast)
             // All dependencies that this project has, including transitive ones.
             .map(NbMavenProjectImpl::getOriginalMavenProject)
-            .map(MavenProject::getArtifacts)
-            .flatMap(Set::stream)
-            .filter(Utils::isSpringBootStarterArtifact)
-            .map(Artifact::getVersion)
+            .map(DependencyIndex::of)
+            .map(index -> index.find(SPRING_BOOT_STARTER_GROUP_ID, SPRING_BOOT_STARTER_ARTIFACT_ID))
+            .flatMap(Optional::stream)
+            .map(DependencyIndex.Entry::version)
+            .filter(Objects::nonNull)
             .peek(version -> logger.log(FINE, "Spring Boot version {0} detected", version))
             .findFirst();
     }
@@ -496,16 +487,11 @@ public final class Utils {
             .getSourceGroups(type);
     }
 
-    private static void complete(final Stream<String> charsets, String filter, Consumer<ValueHint> consumer) {
-        charsets
-            .filter(name -> name.toLowerCase().contains(filter.toLowerCase()))
-            .map(Utils::createHint)
-            .forEachOrdered(consumer);
-    }
-
-    private static boolean isSpringBootStarterArtifact(Artifact artifact) {
-        return SPRING_BOOT_STARTER_GROUP_ID.equals(artifact.getGroupId())
-                && SPRING_BOOT_STARTER_ARTIFACT_ID.equals(artifact.getArtifactId());
+    private static void complete(ValueVocabulary vocabulary, String filter, Consumer<ValueHint> consumer) {
+        vocabulary.forEachContaining(filter, index -> {
+            consumer.accept(createHint(vocabulary.name(index)));
+            return true;
+        });
     }
 
     private static JComponent getSubstitute(Class<?> clazz) throws IllegalAccessException {
@@ -17,6 +17,9 @@ package com.github.alexfalappa.nbspringboot.cfgprops.completion;
 
 import java.util.logging.Logger;
 
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
 import javax.swing.text.JTextComponent;
 
 import org.netbeans.api.editor.mimelookup.MimeRegistration;
@@ -36,6 +39,10 @@ import static java.util.logging.Level.FINE;
  * The Spring Boot Configuration implementation of {@code CompletionProvider}.
  * <p>
  * The entry point of completion support. This provider is registered for text/application+properties files.
+ * <p>
+ * Completion pops up automatically when a dot is typed in a property name and when the equal sign separating the value is
+ * typed. The editor delays the popup and restarts the delay on each keystroke, cancelling running queries, so that a query
+ * runs only when the user pauses typing; queries themselves are bounded by a {@link QueryBudget}.
  *
  * @author Aggelos Karalias
  * @author Alessandro Falappa
@@ -71,7 +78,32 @@ public class CfgPropsCompletionProvider implements CompletionProvider {
 
     @Override
     public int getAutoQueryTypes(JTextComponent jtc, String string) {
-        return 0;
+        if (!".".equals(string) && !"=".equals(string)) {
+            return 0;
+        }
+        final Document document = jtc.getDocument();
+        if (document == null) {
+            return 0;
+        }
+        final int caret = jtc.getCaretPosition();
+        final Element root = document.getDefaultRootElement();
+        final int lineStart = root.getElement(root.getElementIndex(caret)).getStartOffset();
+        final String lineToCaret;
+        try {
+            lineToCaret = document.getText(lineStart, caret - lineStart);
+        } catch (BadLocationException ex) {
+            return 0;
+        }
+        final String trimmed = lineToCaret.stripLeading();
+        if (!trimmed.endsWith(string) || trimmed.length() == 1 || trimmed.startsWith("#") || trimmed.startsWith("!")) {
+            return 0;
+        }
+        // the typed character must be part of the property name, not of a value
+        final String name = trimmed.substring(0, trimmed.length() - 1);
+        if (name.indexOf('=') >= 0 || name.indexOf(':') >= 0) {
+            return 0;
+        }
+        return CompletionProvider.COMPLETION_QUERY_TYPE;
     }
 
 }
@@ -15,8 +15,12 @@
  */
 package com.github.alexfalappa.nbspringboot.cfgprops.completion;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntFunction;
 import java.util.logging.Logger;
 import java.util.prefs.Preferences;
 import java.util.regex.Matcher;
@@ -25,10 +29,12 @@ import java.util.regex.Pattern;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Document;
 import javax.swing.text.Element;
+import javax.swing.text.JTextComponent;
 import javax.swing.text.StyledDocument;
 
 import org.netbeans.api.java.classpath.ClassPath;
 import org.netbeans.api.project.Project;
+import org.netbeans.spi.editor.completion.CompletionItem;
 import org.netbeans.spi.editor.completion.CompletionResultSet;
 import org.netbeans.spi.editor.completion.support.AsyncCompletionQuery;
 import org.openide.filesystems.FileObject;
@@ -44,8 +50,14 @@ import com.github.alexfalappa.nbspringboot.Utils;
 import com.github.alexfalappa.nbspringboot.cfgprops.completion.items.CfgPropCompletionItem;
 import com.github.alexfalappa.nbspringboot.cfgprops.completion.items.KeyCompletionItem;
 import com.github.alexfalappa.nbspringboot.cfgprops.completion.items.ValueCompletionItem;
+import com.github.alexfalappa.nbspringboot.projects.service.api.ClassLoaderManager;
+import com.github.alexfalappa.nbspringboot.projects.service.api.MapPropertyMatch;
+import com.github.alexfalappa.nbspringboot.projects.service.api.PropertyType;
 import com.github.alexfalappa.nbspringboot.projects.service.api.SpringBootService;
+import com.github.alexfalappa.nbspringboot.projects.service.api.TypeShape;
+import com.github.alexfalappa.nbspringboot.projects.service.api.ValueCompleter;
 import com.github.alexfalappa.nbspringboot.projects.service.impl.HintSupport;
+import com.github.alexfalappa.nbspringboot.projects.service.impl.ValueVocabulary;
 
 import static com.github.alexfalappa.nbspringboot.PrefConstants.PREF_DEPR_ERROR_SHOW;
 import static com.github.alexfalappa.nbspringboot.PrefConstants.PREF_DEPR_SORT_LAST;
@@ -54,6 +66,19 @@ import static java.util.logging.Level.FINER;
 
 /**
  * Completion query for normal (i.e. Ctrl+Space) completion used in {@link CfgPropsCompletionProvider}.
+ * <p>
+ * Property names are ranked with the {@link PropertyNameMatcher}, which keeps only the best matches. Names starting with or
+ * containing the typed filter are looked up in the name index of the project; the matcher scans the whole catalogue only
+ * when there are none, to find camel humps, abbreviations and typos.
+ * <p>
+ * The candidates of a query are remembered and narrowed in place while the user keeps typing the same property name or
+ * value. For names, all the matches of the query are kept, not only the best ones shown, and are ranked again among
+ * themselves as the filter grows. A full query runs again when the typed text no longer refines the original filter: on
+ * another line, when an equal sign or a separator is typed, on backspace past the original filter, when the candidates came
+ * from hint providers or partially loaded metadata, or when the query ran out of time.
+ * <p>
+ * Queries run within a {@link QueryBudget}: when the time runs out or the query is cancelled, searching stops and the
+ * results found so far are published as partial. Query latencies are recorded in the project metadata statistics.
  *
  * @author Alessandro Falappa
  */
@@ -61,8 +86,7 @@ public class CfgPropsCompletionQuery extends AsyncCompletionQuery {
 
     private static final Logger logger = Logger.getLogger(CfgPropsCompletionQuery.class.getName());
     private static final Pattern PATTERN_PROP_NAME = Pattern.compile("[^=\\s]+");
-    private static final Pattern PATTERN_MAPKEY_DATATYPE = Pattern.compile("java.util.Map<([^,]+),.*>");
-    private static final Pattern PATTERN_MAPVALUE_DATATYPE = Pattern.compile("java.util.Map<.*,(.*)>");
+    private static final int MAX_NAME_RESULTS = 200;
     private static final Pattern PATTERN_NUMBER_UNIT = Pattern.compile("\\d+(\\w*)");
     private static final Map<String, String> DURATION_SUFFIXES = Map.of(
         "ns", "nanoseconds",
@@ -83,6 +107,55 @@ public class CfgPropsCompletionQuery extends AsyncCompletionQuery {
     private final SpringBootService sbs;
     private final Project proj;
     private final FileObject resourcesFolder;
+    // candidates of the running query, null if results cannot be refined
+    private List<Candidate> candidates;
+    // property names matched by the running query, null if they cannot be narrowed
+    private NameMatches nameMatches;
+    // context of the last completed query, null if results cannot be refined
+    private volatile FilterContext filterContext;
+    // start offset and lowercase filter of the value being completed, after the last comma for collections
+    private int valueAnchor;
+    private String valueFilter;
+    // time budget of the running query
+    private QueryBudget budget;
+    // filter text and caret position computed by canFilter
+    private String refinedFilter;
+    private int refinedCaret;
+
+    /**
+     * A completion candidate, able to create its completion item for a given caret position.
+     *
+     * @param matchText the text matched against the filter
+     * @param factory creates the completion item given the caret offset
+     */
+    private record Candidate(String matchText, IntFunction<CompletionItem> factory) {
+    }
+
+    /**
+     * Property names matched by a query, ranked again among themselves while the filter grows.
+     *
+     * @param matches all the properties matching the filter, in name order
+     * @param literal whether the names were looked up in the name index rather than fuzzy matched on the whole catalogue
+     * @param deprecatedLast whether deprecated properties are sorted last
+     * @param errorShow whether error level deprecated properties are shown
+     */
+    private record NameMatches(List<ConfigurationMetadataProperty> matches, boolean literal, boolean deprecatedLast,
+            boolean errorShow) {
+    }
+
+    /**
+     * Context of a query whose candidates can be narrowed.
+     *
+     * @param lineStart the start offset of the completed line
+     * @param anchor the start offset of the completed name or value
+     * @param filter the filter of the query
+     * @param value whether completing a property value
+     * @param candidates the candidates of a value query
+     * @param names the names matched by a name query
+     */
+    private record FilterContext(int lineStart, int anchor, String filter, boolean value, List<Candidate> candidates,
+            NameMatches names) {
+    }
 
     public CfgPropsCompletionQuery(SpringBootService sbs, Project proj) {
         this.sbs = Objects.requireNonNull(sbs);
@@ -93,6 +166,11 @@ public class CfgPropsCompletionQuery extends AsyncCompletionQuery {
     @Override
     protected void query(CompletionResultSet completionResultSet, Document document, int caretOffset) {
         logger.finer("Starting completion");
+        final long start = System.nanoTime();
+        budget = new QueryBudget(QueryBudget.DEFAULT_MILLIS, this::isTaskCancelled);
+        filterContext = null;
+        candidates = new ArrayList<>();
+        FilterContext context = null;
         final StyledDocument styDoc = (StyledDocument) document;
         Element lineElement = styDoc.getParagraphElement(caretOffset);
         int lineStartOffset = lineElement.getStartOffset();
@@ -115,20 +193,146 @@ public class CfgPropsCompletionQuery extends AsyncCompletionQuery {
                     String valPrefix = parts[1].trim();
                     completePropValue(completionResultSet, propPrefix, valPrefix, lineStartOffset
                             + lineToCaret.indexOf(valPrefix, equalSignOffset), caretOffset);
+                    context = new FilterContext(lineStartOffset, valueAnchor, valueFilter, true, candidates, null);
                 } else if (equalSignOffset >= 0) {
                     //value completion with empty filter
                     completePropValue(completionResultSet, propPrefix, "", lineStartOffset + equalSignOffset + 1, caretOffset);
+                    context = new FilterContext(lineStartOffset, valueAnchor, valueFilter, true, candidates, null);
                 } else {
                     // property completion
                     completePropName(completionResultSet, propPrefix, lineStartOffset + propPrefixOffset, caretOffset);
+                    if (nameMatches != null) {
+                        context = new FilterContext(lineStartOffset, lineStartOffset + propPrefixOffset, propPrefix, false,
+                                null, nameMatches);
+                    }
                 }
             }
         } catch (BadLocationException ex) {
             Exceptions.printStackTrace(ex);
         }
+        if (!sbs.isMetadataComplete()) {
+            // results come from a partially loaded metadata, invite to complete again later
+            completionResultSet.setHasAdditionalItems(true);
+            completionResultSet.setHasAdditionalItemsText("Spring Boot metadata still loading");
+            candidates = null;
+        }
+        if (budget.wasExhausted()) {
+            // stopped searching early, a new query will search again
+            completionResultSet.setHasAdditionalItems(true);
+            completionResultSet.setHasAdditionalItemsText("Partial results, searching took too long");
+            candidates = null;
+        }
+        if (candidates != null && context != null) {
+            filterContext = context;
+        }
+        candidates = null;
+        nameMatches = null;
+        if (!isTaskCancelled()) {
+            sbs.recordCompletion(System.nanoTime() - start, budget.wasExhausted());
+        }
         completionResultSet.finish();
     }
 
+    @Override
+    protected boolean canFilter(JTextComponent component) {
+        final FilterContext context = filterContext;
+        if (context == null) {
+            return false;
+        }
+        final Document document = component.getDocument();
+        final int caret = component.getSelectionStart();
+        // backspace past the anchor or caret moved to another line
+        if (caret < context.anchor() || !(document instanceof StyledDocument styDoc)
+                || styDoc.getParagraphElement(caret).getStartOffset() != context.lineStart()) {
+            return false;
+        }
+        final String typed;
+        try {
+            typed = document.getText(context.anchor(), caret - context.anchor());
+        } catch (BadLocationException ex) {
+            return false;
+        }
+        // a separator changes the completion context
+        for (int i = 0; i < typed.length(); i++) {
+            final char c = typed.charAt(i);
+            if (c == '=' || c == ':' || c == ',' || c == '#' || Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        final String filter = context.value() ? typed.toLowerCase() : typed;
+        // candidates are narrowed only as long as the filter grows
+        if (context.value() ? !filter.contains(context.filter()) : !canNarrowNames(context, filter)) {
+            return false;
+        }
+        if (context.value() ? PATTERN_NUMBER_UNIT.matcher(typed).matches() : sbs.matchMapProperty(typed) != null) {
+            // number units and map keys have their own completions
+            return false;
+        }
+        refinedFilter = filter;
+        refinedCaret = caret;
+        return true;
+    }
+
+    // Tell whether the names matching a longer filter are all among the names matched so far
+    private static boolean canNarrowNames(FilterContext context, String filter) {
+        if (!filter.startsWith(context.filter())) {
+            return false;
+        }
+        final NameMatches names = context.names();
+        if (names.literal()) {
+            // without literal matches a full query scans the whole catalogue for fuzzy matches
+            final String lowcase = filter.toLowerCase();
+            return names.matches().stream().anyMatch(prop -> prop.getId().contains(lowcase));
+        }
+        // typos are tolerated from a minimum filter length on, they can match names the shorter filter did not
+        final int minTypoLength = PropertyNameMatcher.MIN_TYPO_LENGTH;
+        return context.filter().length() >= minTypoLength || filter.length() < minTypoLength;
+    }
+
+    @Override
+    protected void filter(CompletionResultSet resultSet) {
+        final FilterContext context = filterContext;
+        if (context.names() != null) {
+            final NameMatches names = context.names();
+            final QueryBudget filterBudget = new QueryBudget(QueryBudget.DEFAULT_MILLIS, () -> false);
+            final PropertyNameMatcher.Ranking ranking = addNames(resultSet, names.matches(), refinedFilter,
+                    names.deprecatedLast(), names.errorShow(), context.anchor(), refinedCaret, filterBudget);
+            if (ranking.complete()) {
+                // next keystrokes narrow the new matches
+                filterContext = new FilterContext(context.lineStart(), context.anchor(), refinedFilter, false, null,
+                        new NameMatches(ranking.matches(), names.literal(), names.deprecatedLast(), names.errorShow()));
+            } else {
+                resultSet.setHasAdditionalItems(true);
+                resultSet.setHasAdditionalItemsText("Partial results, searching took too long");
+                // next keystroke runs a full query
+                filterContext = null;
+            }
+            logger.log(FINER, "Refined {0} out of {1} matching property names with ''{2}''",
+                    new Object[]{ranking.matches().size(), names.matches().size(), refinedFilter});
+            resultSet.finish();
+            return;
+        }
+        int count = 0;
+        for (Candidate candidate : context.candidates()) {
+            if (candidate.matchText().contains(refinedFilter)) {
+                resultSet.addItem(candidate.factory().apply(refinedCaret));
+                count++;
+            }
+        }
+        logger.log(FINER, "Refined {0} out of {1} completion candidates with ''{2}''",
+                new Object[]{count, context.candidates().size(), refinedFilter});
+        resultSet.finish();
+    }
+
+    // Add an item to the result set, remembering it as a candidate matched by the given text
+    private void addCandidate(CompletionResultSet completionResultSet, String matchText, IntFunction<CompletionItem> factory,
+            int caretOffset) {
+        completionResultSet.addItem(factory.apply(caretOffset));
+        if (candidates != null) {
+            candidates.add(new Candidate(matchText, factory));
+        }
+    }
+
     // Create a completion result list of config properties based on a filter string and document offsets.
     private void completePropName(CompletionResultSet completionResultSet, String filter, int startOffset, int caretOffset) {
         final Preferences prefs = NbPreferences.forModule(PrefConstants.class);
@@ -136,84 +340,114 @@ public class CfgPropsCompletionQuery extends AsyncCompletionQuery {
         final boolean bErrorShow = prefs.getBoolean(PREF_DEPR_ERROR_SHOW, true);
         long mark = System.currentTimeMillis();
         // check if completing a property map key
-        if (filter != null) {
+        final MapPropertyMatch mapMatch = filter != null ? sbs.matchMapProperty(filter) : null;
+        if (mapMatch != null) {
+            // key completions come also from hint providers
+            candidates = null;
             ClassPath cpExec = Utils.execClasspathForProj(proj);
-            for (String mapProp : sbs.getMapPropertyNames()) {
-                if (filter.length() > mapProp.length() && filter.contains(mapProp)) {
-                    String key = filter.substring(mapProp.length() + 1);
-                    logger.log(FINER, "Completing key for map property {0} from: ''{1}''", new Object[]{mapProp, key});
-                    final ConfigurationMetadataProperty propMetadata = sbs.getPropertyMetadata(mapProp);
-                    // if key data type is an enum complete with enum values
-                    final String keyDataType = extractMapKeyType(propMetadata);
-                    if (!keyDataType.contains("<")) {
-                        Utils.completeEnum(cpExec, keyDataType, key, hint -> {
-                            completionResultSet.addItem(new KeyCompletionItem(hint, startOffset + mapProp.length() + 1,
-                                    caretOffset));
-                        });
-                    }
-                    // check if key data type is boolean
-                    if (keyDataType.equals("java.lang.Boolean")) {
-                        Utils.completeBoolean(key, hint -> {
-                            completionResultSet.addItem(new KeyCompletionItem(hint, startOffset + mapProp.length() + 1,
-                                    caretOffset));
-                        });
-                    }
-                    // check if key data type is Charset
-                    if (keyDataType.equals("java.nio.charset.Charset")) {
-                        Utils.completeCharset(key, hint -> {
-                            completionResultSet.addItem(new KeyCompletionItem(hint, startOffset + mapProp.length() + 1,
-                                    caretOffset));
-                        });
-                    }
-                    // add metadata defined key hints to completion list
-                    final Hints hints = propMetadata.getHints();
-                    if (!hints.getKeyHints().isEmpty()) {
-                        String keyLowcase = key.toLowerCase();
-                        for (ValueHint keyHint : hints.getKeyHints()) {
-                            if (keyHint.getValue().toString().toLowerCase().contains(keyLowcase)) {
-                                completionResultSet.addItem(new KeyCompletionItem(keyHint, startOffset + mapProp.length() + 1,
-                                        caretOffset));
-                            }
-                        }
-                    }
-                    // invoke key providers
-                    if (!hints.getKeyProviders().isEmpty()) {
-                        logger.log(FINER, "Key providers for {0}:", mapProp);
-                        for (ValueProvider vp : hints.getKeyProviders()) {
-                            logger.log(FINER, "  {0} - params: {1}", new Object[]{vp.getName(), vp.getParameters()});
-                            sbs.getHintProvider(vp.getName()).provide(vp.getParameters(), propMetadata, key, true,
-                                    completionResultSet, startOffset + mapProp.length() + 1, caretOffset);
-                        }
+            final ConfigurationMetadataProperty propMetadata = mapMatch.property();
+            final String mapProp = propMetadata.getId();
+            final String key = mapMatch.key();
+            final int keyOffset = startOffset + mapMatch.keyOffset();
+            logger.log(FINER, "Completing key for map property {0} from: ''{1}''", new Object[]{mapProp, key});
+            // if key data type is an enum complete with enum values
+            final String keyDataType = extractMapKeyType(propMetadata);
+            if (!keyDataType.contains("<")) {
+                Utils.completeEnum(cpExec, keyDataType, key, hint -> {
+                    completionResultSet.addItem(new KeyCompletionItem(hint, keyOffset, caretOffset));
+                });
+            }
+            // check if key data type is boolean
+            if (keyDataType.equals("java.lang.Boolean")) {
+                Utils.completeBoolean(key, hint -> {
+                    completionResultSet.addItem(new KeyCompletionItem(hint, keyOffset, caretOffset));
+                });
+            }
+            // check if key data type is Charset
+            if (keyDataType.equals("java.nio.charset.Charset")) {
+                Utils.completeCharset(key, hint -> {
+                    completionResultSet.addItem(new KeyCompletionItem(hint, keyOffset, caretOffset));
+                });
+            }
+            // add metadata defined key hints to completion list
+            final Hints hints = propMetadata.getHints();
+            if (!hints.getKeyHints().isEmpty()) {
+                String keyLowcase = key.toLowerCase();
+                for (ValueHint keyHint : hints.getKeyHints()) {
+                    if (keyHint.getValue().toString().toLowerCase().contains(keyLowcase)) {
+                        completionResultSet.addItem(new KeyCompletionItem(keyHint, keyOffset, caretOffset));
                     }
                 }
             }
-        }
-        for (ConfigurationMetadataProperty propMeta : sbs.queryPropertyMetadata(filter)) {
-            if (Utils.isErrorDeprecated(propMeta)) {
-                // show error level deprecated props based on pref
-                if (bErrorShow) {
-                    completionResultSet.addItem(new CfgPropCompletionItem(propMeta, startOffset, caretOffset, bDeprLast));
+            // invoke key providers
+            if (!hints.getKeyProviders().isEmpty()) {
+                logger.log(FINER, "Key providers for {0}:", mapProp);
+                for (ValueProvider vp : hints.getKeyProviders()) {
+                    logger.log(FINER, "  {0} - params: {1}", new Object[]{vp.getName(), vp.getParameters()});
+                    sbs.getHintProvider(vp.getName()).provide(vp.getParameters(), propMetadata, key, true,
+                            completionResultSet, keyOffset, caretOffset);
                 }
-            } else {
-                completionResultSet.addItem(new CfgPropCompletionItem(propMeta, startOffset, caretOffset, bDeprLast));
             }
         }
+        final List<ConfigurationMetadataProperty> literal = literalNames(filter);
+        final List<ConfigurationMetadataProperty> searched = literal != null ? literal : sbs.queryPropertyMetadata(null);
+        final PropertyNameMatcher.Ranking ranking = addNames(completionResultSet, searched, filter, bDeprLast, bErrorShow,
+                startOffset, caretOffset, budget);
+        // refinements rank again among the names matched by a complete pass
+        if (ranking.complete() && filter != null && !filter.isEmpty()) {
+            nameMatches = new NameMatches(ranking.matches(), literal != null, bDeprLast, bErrorShow);
+        }
         final long elapsed = System.currentTimeMillis() - mark;
         logger.log(FINE, "Name completion of ''{0}'' took: {1} msecs", new Object[]{filter, elapsed});
     }
 
+    // Prefix or literal substring matches from the name index, null when there are none and the whole catalogue has to be
+    // ranked, as for camel humps, abbreviations and typos
+    private List<ConfigurationMetadataProperty> literalNames(String filter) {
+        if (filter != null && !filter.isEmpty() && filter.equals(filter.toLowerCase())) {
+            // names starting with the filter get the prefix bonus, when they alone fill the results the others are not needed
+            final List<ConfigurationMetadataProperty> prefixed = sbs.queryPropertyMetadataByPrefix(filter);
+            if (prefixed.size() >= MAX_NAME_RESULTS) {
+                return prefixed;
+            }
+            final List<ConfigurationMetadataProperty> literal = sbs.queryPropertyMetadata(filter);
+            if (!literal.isEmpty()) {
+                return literal;
+            }
+        }
+        return null;
+    }
+
+    // Add the best property names matching a filter, ranked by score
+    private static PropertyNameMatcher.Ranking addNames(CompletionResultSet completionResultSet,
+            List<ConfigurationMetadataProperty> props, String filter, boolean deprecatedLast, boolean errorShow,
+            int startOffset, int caretOffset, QueryBudget budget) {
+        // show error level deprecated props based on pref
+        final PropertyNameMatcher.Ranking ranking = PropertyNameMatcher.rank(props, filter, MAX_NAME_RESULTS, deprecatedLast,
+                prop -> errorShow || !Utils.isErrorDeprecated(prop), budget);
+        final List<ConfigurationMetadataProperty> best = ranking.best();
+        final boolean ranked = filter != null && !filter.isEmpty();
+        for (int i = 0; i < best.size(); i++) {
+            completionResultSet.addItem(new CfgPropCompletionItem(best.get(i), startOffset, caretOffset, deprecatedLast,
+                    ranked ? i : -1));
+        }
+        return ranking;
+    }
+
     // Create a completion result list of properties values based on a property name, filter string and document offsets.
     public void completePropValue(CompletionResultSet completionResultSet, String propName, String filter, int startOffset,
             int caretOffset) {
         long mark = System.currentTimeMillis();
         String filterLowcase = filter.toLowerCase();
+        valueAnchor = startOffset;
+        valueFilter = filterLowcase;
         logger.log(FINER, "Completing property value from: ''{0}''", filter);
         ConfigurationMetadataProperty propMeta = sbs.getPropertyMetadata(propName);
         if (propMeta != null) {
-            final String propType = propMeta.getType();
-            final String mapValueType = extractMapValueType(propMeta);
+            // completers are resolved once per data type when indexing the metadata
+            final PropertyType type = PropertyType.of(propMeta.getType());
             // if data type is collection or array adjust filter and startOffset to part after last comma
-            if (propType.contains("List<") || propType.contains("Set<") || propType.contains("[]")) {
+            if (type.isSequence()) {
                 int idx = filter.lastIndexOf(',');
                 if (idx > 0) {
                     startOffset = startOffset + idx + 1;
@@ -221,83 +455,56 @@ public class CfgPropsCompletionQuery extends AsyncCompletionQuery {
                     filterLowcase = filter.toLowerCase();
                 }
             }
-            // check if data type or map value type is boolean
-            if (propType.equals("java.lang.Boolean") || mapValueType.equals("java.lang.Boolean")) {
-                if ("true".contains(filterLowcase)) {
-                    completionResultSet.addItem(new ValueCompletionItem(Utils.createHint("true"), startOffset, caretOffset));
-                }
-                if ("false".contains(filterLowcase)) {
-                    completionResultSet.addItem(new ValueCompletionItem(Utils.createHint("false"), startOffset, caretOffset));
-                }
-            }
-            // check if data type or map value type is CharSet
-            if (propType.equals("java.nio.charset.Charset") || mapValueType.equals("java.nio.charset.Charset")) {
-                for (String chrsName : HintSupport.getAllCharsets()) {
-                    if (chrsName.toLowerCase().contains(filterLowcase)) {
-                        completionResultSet.addItem(new ValueCompletionItem(Utils.createHint(chrsName), startOffset, caretOffset));
-                    }
-                }
-            }
-            // check if data type or map value type is Locale
-            if (propType.equals("java.util.Locale") || mapValueType.equals("java.util.Locale")) {
-                for (String lclName : HintSupport.getAllLocales()) {
-                    if (lclName.toLowerCase().contains(filterLowcase)) {
-                        completionResultSet.addItem(new ValueCompletionItem(Utils.createHint(lclName), startOffset, caretOffset));
-                    }
-                }
-            }
-            // check if data type or map value type is MimeType
-            if (propType.equals("org.springframework.util.MimeType") || mapValueType.equals("org.springframework.util.MimeType")) {
-                for (String mime : HintSupport.MIMETYPES) {
-                    if (mime.toLowerCase().contains(filterLowcase)) {
-                        completionResultSet.addItem(new ValueCompletionItem(Utils.createHint(mime), startOffset, caretOffset));
-                    }
+            valueAnchor = startOffset;
+            valueFilter = filterLowcase;
+            for (ValueCompleter completer : type.getValueCompleters()) {
+                if (budget.isExhausted()) {
+                    break;
                 }
-            }
-            // check if data type or map value type is a Spring Resource
-            if (propType.equals("org.springframework.core.io.Resource")
-                    || mapValueType.equals("org.springframework.core.io.Resource")) {
-                Utils.completeSpringResource(resourcesFolder, filter, completionResultSet, startOffset, caretOffset);
-            }
-            // check if data type is an enum
-            completeValueEnum(propType, filterLowcase, completionResultSet, startOffset, caretOffset);
-            // check if map value data type is an enum (not for collections)
-            if (!mapValueType.contains("<")) {
-                completeValueEnum(mapValueType, filterLowcase, completionResultSet, startOffset, caretOffset);
-            }
-            // check if filter is a number with unit
-            Matcher m = PATTERN_NUMBER_UNIT.matcher(filter);
-            if (m.matches()) {
-                String unitPart = m.group(1).toLowerCase();
-                final int newStartOffset = startOffset + filter.length() - unitPart.length();
-                // if data type is java.time.Duration offer simple form suffixes
-                if (propType.equals("java.time.Duration")) {
-                    for (Map.Entry<String, String> entry : DURATION_SUFFIXES.entrySet()) {
-                        if (entry.getKey().toLowerCase().startsWith(unitPart)) {
-                            completionResultSet.addItem(new ValueCompletionItem(
-                                    Utils.createHint(entry.getKey(), entry.getValue()), newStartOffset, caretOffset));
+                switch (completer) {
+                    case BOOLEAN -> {
+                        if ("true".contains(filterLowcase)) {
+                            addValue(completionResultSet, "true", Utils.createHint("true"), startOffset, caretOffset);
+                        }
+                        if ("false".contains(filterLowcase)) {
+                            addValue(completionResultSet, "false", Utils.createHint("false"), startOffset, caretOffset);
                         }
                     }
-                }
-                // if data type is org.springframework.util.unit.DataSize offer size suffixes
-                if (propType.equals("org.springframework.util.unit.DataSize")) {
-                    for (Map.Entry<String, String> entry : DATASIZE_SUFFIXES.entrySet()) {
-                        if (entry.getKey().toLowerCase().startsWith(unitPart)) {
-                            completionResultSet.addItem(new ValueCompletionItem(
-                                    Utils.createHint(entry.getKey(), entry.getValue()), newStartOffset, caretOffset));
+                    case CHARSET ->
+                        completeNames(completionResultSet, HintSupport.getCharsets(), filterLowcase, startOffset, caretOffset);
+                    case LOCALE ->
+                        completeNames(completionResultSet, HintSupport.getLocales(), filterLowcase, startOffset, caretOffset);
+                    case MIME_TYPE ->
+                        completeNames(completionResultSet, HintSupport.getMimeTypes(), filterLowcase, startOffset, caretOffset);
+                    case RESOURCE -> {
+                        // resource completions depend on the typed path
+                        candidates = null;
+                        Utils.completeSpringResource(resourcesFolder, filter, completionResultSet, startOffset, caretOffset);
+                    }
+                    case ENUM -> {
+                        for (String enumType : type.getEnumTypes()) {
+                            completeValueEnum(enumType, filterLowcase, completionResultSet, startOffset, caretOffset);
                         }
                     }
+                    case DURATION_UNIT -> completeUnit(completionResultSet, DURATION_SUFFIXES, filter, startOffset, caretOffset);
+                    case DATA_SIZE_UNIT -> completeUnit(completionResultSet, DATASIZE_SUFFIXES, filter, startOffset, caretOffset);
                 }
             }
             // add metadata defined value hints to completion list
             final Hints hints = propMeta.getHints();
             for (ValueHint valueHint : hints.getValueHints()) {
-                if (valueHint.getValue().toString().toLowerCase().contains(filterLowcase)) {
-                    completionResultSet.addItem(new ValueCompletionItem(valueHint, startOffset, caretOffset));
+                if (budget.isExhausted()) {
+                    break;
+                }
+                final String match = valueHint.getValue().toString().toLowerCase();
+                if (match.contains(filterLowcase)) {
+                    addValue(completionResultSet, match, valueHint, startOffset, caretOffset);
                 }
             }
             // invoke value providers
-            if (!hints.getValueProviders().isEmpty()) {
+            if (!hints.getValueProviders().isEmpty() && !budget.isExhausted()) {
+                // provided values are added straight to the result set
+                candidates = null;
                 logger.log(FINER, "Value providers for {0}:", propName);
                 for (ValueProvider vp : hints.getValueProviders()) {
                     logger.log(FINER, "  {0} - params: {1}", new Object[]{vp.getName(), vp.getParameters()});
@@ -310,41 +517,61 @@ public class CfgPropsCompletionQuery extends AsyncCompletionQuery {
         logger.log(FINE, "Value completion of ''{0}'' on ''{1}'' took: {2} msecs", new Object[]{filter, propName, elapsed});
     }
 
-    private void completeValueEnum(String dataType, String filter, CompletionResultSet completionResultSet, int startOffset,
+    // Offer the names containing the filter, case insensitively
+    private void completeNames(CompletionResultSet completionResultSet, ValueVocabulary names, String filter, int startOffset,
             int caretOffset) {
-        try {
-            ClassPath cpExec = Utils.execClasspathForProj(proj);
-            Object[] enumvals = cpExec.getClassLoader(true).loadClass(dataType).getEnumConstants();
-            if (enumvals != null) {
-                for (Object val : enumvals) {
-                    final String valName = val.toString().toLowerCase();
-                    if (valName.contains(filter)) {
-                        completionResultSet.addItem(new ValueCompletionItem(Utils.createEnumHint(valName), startOffset,
-                                caretOffset));
-                    }
+        names.forEachContaining(filter, index -> {
+            addValue(completionResultSet, names.lowercase(index), Utils.createHint(names.name(index)), startOffset, caretOffset);
+            return !budget.isExhausted();
+        });
+    }
+
+    // Offer unit suffixes when the filter is a number, optionally followed by part of a unit
+    private void completeUnit(CompletionResultSet completionResultSet, Map<String, String> suffixes, String filter,
+            int startOffset, int caretOffset) {
+        Matcher m = PATTERN_NUMBER_UNIT.matcher(filter);
+        if (m.matches()) {
+            // unit suffixes are matched by prefix
+            candidates = null;
+            String unitPart = m.group(1).toLowerCase();
+            final int newStartOffset = startOffset + filter.length() - unitPart.length();
+            for (Map.Entry<String, String> entry : suffixes.entrySet()) {
+                if (entry.getKey().toLowerCase().startsWith(unitPart)) {
+                    completionResultSet.addItem(new ValueCompletionItem(
+                            Utils.createHint(entry.getKey(), entry.getValue()), newStartOffset, caretOffset));
                 }
             }
-        } catch (ClassNotFoundException ex) {
-            // enum not available in project classpath, no completion possible
         }
     }
 
-    private static String extractMapKeyType(ConfigurationMetadataProperty propMeta) {
-        Matcher matcher = PATTERN_MAPKEY_DATATYPE.matcher(propMeta.getType());
-        if (matcher.matches()) {
-            final String dataType = matcher.group(1);
-            logger.log(FINER, "Map key data type: {0}", dataType);
-            return dataType;
+    private void completeValueEnum(String dataType, String filter, CompletionResultSet completionResultSet, int startOffset,
+            int caretOffset) {
+        ClassPath cpExec = Utils.execClasspathForProj(proj);
+        // enum constants are read from the class file, an enum not in the project classpath gives no completion
+        final Optional<TypeShape> shape = ClassLoaderManager.forClassPath(cpExec).getTypeShape(dataType);
+        if (shape.isPresent()) {
+            for (String constant : shape.get().enumConstants()) {
+                if (budget.isExhausted()) {
+                    break;
+                }
+                final String valName = constant.toLowerCase();
+                if (valName.contains(filter)) {
+                    addValue(completionResultSet, valName, Utils.createEnumHint(valName), startOffset, caretOffset);
+                }
+            }
         }
-        return "";
     }
 
-    private static String extractMapValueType(ConfigurationMetadataProperty propMeta) {
-        Matcher matcher = PATTERN_MAPVALUE_DATATYPE.matcher(propMeta.getType());
-        if (matcher.matches()) {
-            final String dataType = matcher.group(1);
-            logger.log(FINER, "Map value data type: {0}", dataType);
-            return dataType;
+    private void addValue(CompletionResultSet completionResultSet, String matchText, ValueHint hint, int startOffset,
+            int caretOffset) {
+        addCandidate(completionResultSet, matchText, caret -> new ValueCompletionItem(hint, startOffset, caret), caretOffset);
+    }
+
+    private static String extractMapKeyType(ConfigurationMetadataProperty propMeta) {
+        final PropertyType type = PropertyType.of(propMeta.getType());
+        if (type.isMap()) {
+            logger.log(FINER, "Map key data type: {0}", type.getKeyType());
+            return type.getKeyType();
         }
         return "";
     }
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.cfgprops.completion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+/**
+ * Ranked fuzzy matching of configuration property names.
+ * <p>
+ * A pattern matches a name if its characters appear in order in the name, preferring contiguous runs and the starts of
+ * dot or dash separated segments. A dot in the pattern skips to the next segment, so that {@code s.d.url} matches
+ * {@code spring.datasource.url}, and an uppercase character matches a segment start only, so that camel case names like
+ * {@code maxHttpHeaderSize} match their dashed form. A pattern of at least four characters also matches a segment prefix
+ * differing by a single typo (substitution, insertion, deletion or transposition of adjacent characters).
+ * <p>
+ * Scoring never allocates. Ranking keeps the best matches in a bounded heap of primitive keys.
+ *
+ * @author Alessandro Falappa
+ */
+public final class PropertyNameMatcher {
+
+    public static final int NO_MATCH = Integer.MIN_VALUE;
+    private static final int MATCH = 16;
+    private static final int CONSECUTIVE = 24;
+    private static final int BOUNDARY = 32;
+    private static final int PREFIX = 48;
+    private static final int SEGMENT = 8;
+    private static final int SUBSTRING = 64;
+    private static final int SKIPPED_SEGMENT = 64;
+    private static final int TYPO = 40;
+    // shortest pattern tolerating a typo
+    static final int MIN_TYPO_LENGTH = 4;
+    private static final int RECENT = 64;
+    private static final int DEPRECATED = 1 << 16;
+    // properties scored between checks of the stop condition
+    private static final int STOP_CHECK_INTERVAL = 256;
+
+    /**
+     * Outcome of ranking properties against a pattern.
+     *
+     * @param best the best matches, best first
+     * @param matches all the matching properties, in the order of the searched list
+     * @param complete whether all properties were scored, false if stopped early
+     */
+    public record Ranking(List<ConfigurationMetadataProperty> best, List<ConfigurationMetadataProperty> matches,
+            boolean complete) {
+    }
+
+    // prevent instantiation
+    private PropertyNameMatcher() {
+    }
+
+    /**
+     * Scores a name against a pattern.
+     *
+     * @param pattern the pattern, may be empty
+     * @param name the property name
+     * @return the score, higher is better, or {@link #NO_MATCH}
+     */
+    public static int score(CharSequence pattern, CharSequence name) {
+        final int plen = pattern.length();
+        if (plen == 0) {
+            return 0;
+        }
+        final int ret = Math.max(substringScore(pattern, name), fuzzyScore(pattern, name));
+        if (ret != NO_MATCH || plen < MIN_TYPO_LENGTH) {
+            return ret;
+        }
+        return typoScore(pattern, name);
+    }
+
+    /**
+     * Ranks the properties matching a pattern.
+     * <p>
+     * Matches are ordered by score, with a bonus for recently used properties and, optionally, deprecated properties last.
+     * Ties keep the order of the given list. An empty pattern matches all properties, which are returned unranked and
+     * uncapped.
+     *
+     * @param props the properties to search, usually in name order
+     * @param pattern the pattern
+     * @param limit the maximum number of matches to return
+     * @param deprecatedLast whether to rank deprecated properties after the others
+     * @param include tells which properties to consider
+     * @return the best matches, best first
+     */
+    public static List<ConfigurationMetadataProperty> rank(List<ConfigurationMetadataProperty> props, String pattern,
+            int limit, boolean deprecatedLast, Predicate<ConfigurationMetadataProperty> include) {
+        return rank(props, pattern, limit, deprecatedLast, include, () -> false).best();
+    }
+
+    /**
+     * Ranks the properties matching a pattern, stopping early on request.
+     * <p>
+     * The stop condition is checked periodically while scoring. Once it holds, the best matches among the properties
+     * scored so far are returned. All the matches are also returned, so that a longer pattern can be ranked again among
+     * them only: a name matching a pattern also matches its prefixes, typo tolerance aside.
+     *
+     * @param props the properties to search, usually in name order
+     * @param pattern the pattern
+     * @param limit the maximum number of matches to return
+     * @param deprecatedLast whether to rank deprecated properties after the others
+     * @param include tells which properties to consider
+     * @param stop tells whether to stop scoring, e.g. when a time budget is exhausted
+     * @return the ranking
+     */
+    public static Ranking rank(List<ConfigurationMetadataProperty> props, String pattern, int limit, boolean deprecatedLast,
+            Predicate<ConfigurationMetadataProperty> include, BooleanSupplier stop) {
+        if (pattern == null || pattern.isEmpty()) {
+            final List<ConfigurationMetadataProperty> all = props.stream().filter(include).toList();
+            return new Ranking(all, all, true);
+        }
+        final Map<String, Integer> recent = RecentProperties.ranks();
+        // min-heap of score in the high half and inverted position in the low half
+        final long[] heap = new long[limit];
+        int size = 0;
+        List<ConfigurationMetadataProperty> matches = new ArrayList<>();
+        boolean complete = true;
+        for (int i = 0; i < props.size(); i++) {
+            if (i % STOP_CHECK_INTERVAL == STOP_CHECK_INTERVAL - 1 && stop.getAsBoolean()) {
+                complete = false;
+                break;
+            }
+            final ConfigurationMetadataProperty prop = props.get(i);
+            int score = score(pattern, prop.getId());
+            if (score == NO_MATCH || !include.test(prop)) {
+                continue;
+            }
+            matches.add(prop);
+            final Integer recentRank = recent.get(prop.getId());
+            if (recentRank != null) {
+                score += RECENT - recentRank;
+            }
+            if (deprecatedLast && prop.isDeprecated()) {
+                score -= DEPRECATED;
+            }
+            final long key = ((long) score << 32) | (Integer.MAX_VALUE - i);
+            if (size < limit) {
+                heap[size] = key;
+                siftUp(heap, size++);
+            } else if (limit > 0 && key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, size);
+            }
+        }
+        Arrays.sort(heap, 0, size);
+        List<ConfigurationMetadataProperty> best = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            best.add(props.get(Integer.MAX_VALUE - (int) heap[i]));
+        }
+        return new Ranking(best, matches, complete);
+    }
+
+    // Pattern as a contiguous case insensitive substring, best occurrence
+    private static int substringScore(CharSequence pattern, CharSequence name) {
+        final int plen = pattern.length();
+        int ret = NO_MATCH;
+        for (int start = 0; start + plen <= name.length(); start++) {
+            if (regionMatches(pattern, 0, name, start, plen)) {
+                int score = SUBSTRING + plen * (MATCH + CONSECUTIVE) - CONSECUTIVE - start;
+                if (isBoundary(name, start)) {
+                    score += BOUNDARY;
+                }
+                if (start == 0) {
+                    score += PREFIX;
+                }
+                ret = Math.max(ret, score - (name.length() - start - plen) / 4);
+            }
+        }
+        return ret;
+    }
+
+    // Pattern characters in order, preferring contiguous runs and segment starts
+    private static int fuzzyScore(CharSequence pattern, CharSequence name) {
+        final int plen = pattern.length();
+        final int nlen = name.length();
+        int score = 0;
+        int ni = 0;
+        int prev = -2;
+        for (int pi = 0; pi < plen; pi++) {
+            final char pc = pattern.charAt(pi);
+            int j;
+            if (pc == '.') {
+                // skip to the next segment
+                j = indexOf(name, '.', ni);
+                if (j < 0) {
+                    return NO_MATCH;
+                }
+                score += SEGMENT;
+            } else if (Character.isUpperCase(pc)) {
+                // camel hump, matches a segment start only
+                j = nextBoundary(name, Character.toLowerCase(pc), ni);
+                if (j < 0) {
+                    return NO_MATCH;
+                }
+                score += MATCH + BOUNDARY;
+            } else {
+                j = ni < nlen && Character.toLowerCase(name.charAt(ni)) == pc ? ni : nextBoundary(name, pc, ni);
+                if (j < 0) {
+                    j = indexOf(name, pc, ni);
+                }
+                if (j < 0) {
+                    return NO_MATCH;
+                }
+                score += MATCH;
+                if (pi > 0 && pattern.charAt(pi - 1) == '.' && j != ni) {
+                    // the segment following a dot has not been matched at its start
+                    score -= SKIPPED_SEGMENT;
+                }
+                if (j == prev + 1) {
+                    score += CONSECUTIVE;
+                } else if (isBoundary(name, j)) {
+                    score += BOUNDARY;
+                }
+            }
+            if (pi == 0 && j == 0) {
+                score += PREFIX;
+            }
+            score -= j - ni;
+            prev = j;
+            ni = j + 1;
+        }
+        return score - (nlen - ni) / 4;
+    }
+
+    // Pattern differing by a single typo from a prefix of a name segment
+    private static int typoScore(CharSequence pattern, CharSequence name) {
+        for (int start = 0; start < name.length(); start++) {
+            if (isBoundary(name, start) && oneEditPrefix(pattern, name, start)) {
+                return pattern.length() * MATCH - TYPO - start;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private static boolean oneEditPrefix(CharSequence pattern, CharSequence name, int start) {
+        final int plen = pattern.length();
+        final int nlen = name.length();
+        int i = 0;
+        int j = start;
+        while (i < plen && j < nlen && matches(pattern.charAt(i), name.charAt(j))) {
+            i++;
+            j++;
+        }
+        // the first character must be right
+        if (i == 0 || i == plen) {
+            return i == plen;
+        }
+        return regionMatches(pattern, i + 1, name, j + 1, plen - i - 1)
+                || regionMatches(pattern, i + 1, name, j, plen - i - 1)
+                || regionMatches(pattern, i, name, j + 1, plen - i)
+                || (i + 1 < plen && j + 1 < nlen && matches(pattern.charAt(i), name.charAt(j + 1))
+                && matches(pattern.charAt(i + 1), name.charAt(j)) && regionMatches(pattern, i + 2, name, j + 2, plen - i - 2));
+    }
+
+    private static boolean regionMatches(CharSequence pattern, int pStart, CharSequence name, int nStart, int len) {
+        if (nStart + len > name.length()) {
+            return false;
+        }
+        for (int k = 0; k < len; k++) {
+            if (!matches(pattern.charAt(pStart + k), name.charAt(nStart + k))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(char patternChar, char nameChar) {
+        return patternChar == nameChar || Character.toLowerCase(patternChar) == Character.toLowerCase(nameChar);
+    }
+
+    private static boolean isBoundary(CharSequence name, int index) {
+        if (index == 0) {
+            return true;
+        }
+        final char before = name.charAt(index - 1);
+        return before == '.' || before == '-' || before == '_' || before == '['
+                || Character.isUpperCase(name.charAt(index)) && !Character.isUpperCase(before);
+    }
+
+    private static int nextBoundary(CharSequence name, char lowerChar, int from) {
+        for (int j = from; j < name.length(); j++) {
+            if (Character.toLowerCase(name.charAt(j)) == lowerChar && isBoundary(name, j)) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence name, char lowerChar, int from) {
+        for (int j = from; j < name.length(); j++) {
+            if (Character.toLowerCase(name.charAt(j)) == lowerChar) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (heap[parent] <= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int index = 0;
+        while (true) {
+            final int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            final int child = left + 1 < size && heap[left + 1] < heap[left] ? left + 1 : left;
+            if (heap[index] <= heap[child]) {
+                return;
+            }
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void swap(long[] heap, int i, int j) {
+        final long tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
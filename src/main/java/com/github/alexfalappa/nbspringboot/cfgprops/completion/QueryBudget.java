@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.cfgprops.completion;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Time budget of a completion query.
+ * <p>
+ * A budget is exhausted when its time runs out or when the query is cancelled, e.g. because the user kept typing. Once
+ * exhausted it stays so, and the query is expected to stop searching and publish the results found so far as partial.
+ * <p>
+ * The default budget can be changed with the {@value #BUDGET_PROPERTY} system property, in milliseconds.
+ *
+ * @author Alessandro Falappa
+ */
+final class QueryBudget implements BooleanSupplier {
+
+    static final String BUDGET_PROPERTY = "nbspringboot.completion.budgetMillis";
+    static final long DEFAULT_MILLIS = Long.getLong(BUDGET_PROPERTY, 150);
+    private final long deadline;
+    private final BooleanSupplier cancelled;
+    private boolean exhausted;
+
+    /**
+     * Starts a budget.
+     *
+     * @param millis the time budget in milliseconds
+     * @param cancelled tells whether the query was cancelled
+     */
+    QueryBudget(long millis, BooleanSupplier cancelled) {
+        this.deadline = System.nanoTime() + millis * 1_000_000;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Tells whether the budget is exhausted, checking the time and the cancellation of the query.
+     *
+     * @return true if the query should stop searching
+     */
+    boolean isExhausted() {
+        if (!exhausted && (System.nanoTime() - deadline >= 0 || cancelled.getAsBoolean())) {
+            exhausted = true;
+        }
+        return exhausted;
+    }
+
+    /**
+     * Tells whether the budget was found exhausted by a previous check, without checking again.
+     *
+     * @return true if the query stopped searching early
+     */
+    boolean wasExhausted() {
+        return exhausted;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return isExhausted();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.cfgprops.completion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers the configuration properties most recently accepted from name completion, to rank them higher.
+ *
+ * @author Alessandro Falappa
+ */
+public final class RecentProperties {
+
+    static final int CAPACITY = 32;
+    // access ordered, guarded by itself
+    private static final LinkedHashMap<String, Boolean> RECENT = new LinkedHashMap<>(CAPACITY * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    // prevent instantiation
+    private RecentProperties() {
+    }
+
+    /**
+     * Records the use of a property.
+     *
+     * @param id the property name
+     */
+    public static void recordUse(String id) {
+        synchronized (RECENT) {
+            RECENT.put(id, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Gets the recently used properties with their recency rank.
+     *
+     * @return a map of property names to ranks, zero for the most recently used
+     */
+    static Map<String, Integer> ranks() {
+        final List<String> ids;
+        synchronized (RECENT) {
+            ids = new ArrayList<>(RECENT.keySet());
+        }
+        Map<String, Integer> ret = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            ret.put(ids.get(i), ids.size() - 1 - i);
+        }
+        return ret;
+    }
+
+    static void clear() {
+        synchronized (RECENT) {
+            RECENT.clear();
+        }
+    }
+}
@@ -37,6 +37,7 @@ import org.springframework.boot.configurationmetadata.Hints;
 
 import com.github.alexfalappa.nbspringboot.PrefConstants;
 import com.github.alexfalappa.nbspringboot.Utils;
+import com.github.alexfalappa.nbspringboot.cfgprops.completion.RecentProperties;
 import com.github.alexfalappa.nbspringboot.cfgprops.completion.doc.CfgPropCompletionDocumentation;
 import org.netbeans.spi.editor.completion.CompletionDocumentation;
 
@@ -61,9 +62,24 @@ public class CfgPropCompletionItem extends BaseCompletiomItem {
     private final int propStartOffset;
     private final String type;
     private final boolean sortDeprLast;
+    private final int rank;
 
     public CfgPropCompletionItem(ConfigurationMetadataProperty configurationMeta, int propStartOffset, int caretOffset,
             boolean sortDeprLast) {
+        this(configurationMeta, propStartOffset, caretOffset, sortDeprLast, -1);
+    }
+
+    /**
+     * Creates an item sorted by match rank instead of by name.
+     *
+     * @param configurationMeta the property metadata
+     * @param propStartOffset the start offset of the property name
+     * @param caretOffset the caret offset
+     * @param sortDeprLast whether to sort deprecated properties last
+     * @param rank the match rank, zero for the best match, negative to sort by name
+     */
+    public CfgPropCompletionItem(ConfigurationMetadataProperty configurationMeta, int propStartOffset, int caretOffset,
+            boolean sortDeprLast, int rank) {
         this.configurationMeta = configurationMeta;
         if (configurationMeta.getType() != null) {
             type = simpleHtmlEscape(shortenJavaType(configurationMeta.getType()));
@@ -73,11 +89,13 @@ public class CfgPropCompletionItem extends BaseCompletiomItem {
         this.propStartOffset = propStartOffset;
         this.caretOffset = caretOffset;
         this.sortDeprLast = sortDeprLast;
+        this.rank = rank;
     }
 
     @Override
     public void defaultAction(JTextComponent jtc) {
         logger.log(Level.FINER, "Accepted name completion: {0}", configurationMeta.getId());
+        RecentProperties.recordUse(configurationMeta.getId());
         try {
             StyledDocument doc = (StyledDocument) jtc.getDocument();
             // calculate the amount of chars to remove (by default from property start up to caret position)
@@ -170,6 +188,9 @@ public class CfgPropCompletionItem extends BaseCompletiomItem {
 
     @Override
     public CharSequence getSortText() {
+        if (rank >= 0) {
+            return String.format("%05d%s", rank, getText());
+        }
         return getText();
     }
 
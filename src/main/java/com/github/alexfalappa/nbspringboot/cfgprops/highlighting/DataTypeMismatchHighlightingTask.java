@@ -39,6 +39,7 @@ import com.github.alexfalappa.nbspringboot.Utils;
 import com.github.alexfalappa.nbspringboot.cfgprops.ast.CfgElement;
 import com.github.alexfalappa.nbspringboot.cfgprops.ast.PairElement;
 import com.github.alexfalappa.nbspringboot.cfgprops.parser.CfgPropsParser;
+import com.github.alexfalappa.nbspringboot.projects.service.api.ClassLoaderManager;
 import com.github.alexfalappa.nbspringboot.projects.service.api.SpringBootService;
 
 import static java.util.regex.Pattern.compile;
@@ -85,7 +86,7 @@ public class DataTypeMismatchHighlightingTask extends BaseHighlightingTask {
             final SpringBootService sbs = prj.getLookup().lookup(SpringBootService.class);
             final ClassPath cp = Utils.execClasspathForProj(prj);
             if (sbs != null && cp != null) {
-                final ClassLoader cl = cp.getClassLoader(true);
+                final ClassLoader cl = ClassLoaderManager.forClassPath(cp).getClassLoader();
                 for (PairElement pair : cfgResult.getCfgFile().elements()) {
                     final CfgElement key = pair.key();
                     final CfgElement value = pair.value();
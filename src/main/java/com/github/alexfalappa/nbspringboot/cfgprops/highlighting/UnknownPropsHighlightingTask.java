@@ -80,7 +80,8 @@ public class UnknownPropsHighlightingTask extends BaseHighlightingTask {
                     final CfgElement value = pair.value();
                     final String pName = key.getText();
                     ConfigurationMetadataProperty cfgMeta = sbs.getPropertyMetadata(pName);
-                    if (cfgMeta == null) {
+                    // avoid flagging properties as unknown while metadata is still loading
+                    if (cfgMeta == null && sbs.isMetadataComplete()) {
                         try {
                             List<Fix> fixes = new ArrayList<>();
                             int end = value != null ? value.getIdxEnd() : key.getIdxEnd();
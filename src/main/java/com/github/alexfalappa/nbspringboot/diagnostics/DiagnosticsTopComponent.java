@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.diagnostics;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JSplitPane;
+import javax.swing.JTable;
+import javax.swing.JTextArea;
+import javax.swing.ListSelectionModel;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+
+import org.openide.awt.ActionID;
+import org.openide.awt.ActionReference;
+import org.openide.util.NbBundle.Messages;
+import org.openide.windows.TopComponent;
+
+/**
+ * Tool window showing the configuration metadata statistics of open Spring Boot projects.
+ * <p>
+ * Statistics are polled from {@link MetadataDiagnostics} while the window is open. The lower part lists the slowest
+ * classpath roots to load for the selected project.
+ *
+ * @author Alessandro Falappa
+ */
+@TopComponent.Description(
+        preferredID = "SpringBootDiagnosticsTopComponent",
+        persistenceType = TopComponent.PERSISTENCE_NEVER
+)
+@TopComponent.Registration(mode = "output", openAtStartup = false)
+@ActionID(category = "Window", id = "com.github.alexfalappa.nbspringboot.diagnostics.DiagnosticsTopComponent")
+@ActionReference(path = "Menu/Window/Debug", position = 3000)
+@TopComponent.OpenActionRegistration(
+        displayName = "#CTL_DiagnosticsAction",
+        preferredID = "SpringBootDiagnosticsTopComponent"
+)
+@Messages({
+    "CTL_DiagnosticsAction=Spring Boot Diagnostics",
+    "CTL_DiagnosticsTopComponent=Spring Boot Diagnostics",
+    "HINT_DiagnosticsTopComponent=Configuration metadata statistics of open Spring Boot projects"
+})
+public final class DiagnosticsTopComponent extends TopComponent {
+
+    private static final int POLL_MS = 2000;
+    private static final int SLOWEST_ROOTS = 20;
+    private final StatsTableModel tableModel = new StatsTableModel();
+    private final JTable table = new JTable(tableModel);
+    private final JTextArea taRoots = new JTextArea();
+    private final Timer timer = new Timer(POLL_MS, e -> refreshStats());
+
+    public DiagnosticsTopComponent() {
+        setName(Bundle.CTL_DiagnosticsTopComponent());
+        setToolTipText(Bundle.HINT_DiagnosticsTopComponent());
+        setLayout(new BorderLayout());
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setAutoCreateRowSorter(true);
+        table.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                showSlowestRoots();
+            }
+        });
+        taRoots.setEditable(false);
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(table), new JScrollPane(taRoots));
+        split.setResizeWeight(0.6);
+        add(split, BorderLayout.CENTER);
+        JButton bReset = new JButton("Reset");
+        bReset.addActionListener(e -> {
+            MetadataDiagnostics.all().forEach(MetadataStats::reset);
+            refreshStats();
+        });
+        JPanel pButtons = new JPanel(new FlowLayout(FlowLayout.LEADING));
+        pButtons.add(bReset);
+        add(pButtons, BorderLayout.NORTH);
+    }
+
+    @Override
+    protected void componentOpened() {
+        refreshStats();
+        timer.start();
+    }
+
+    @Override
+    protected void componentClosed() {
+        timer.stop();
+    }
+
+    private void refreshStats() {
+        final MetadataStats selected = selectedStats();
+        tableModel.setStats(new ArrayList<>(MetadataDiagnostics.all()));
+        if (selected != null) {
+            final int row = tableModel.indexOf(selected);
+            if (row >= 0) {
+                final int viewRow = table.convertRowIndexToView(row);
+                table.getSelectionModel().setSelectionInterval(viewRow, viewRow);
+            }
+        }
+        showSlowestRoots();
+    }
+
+    private MetadataStats selectedStats() {
+        final int viewRow = table.getSelectedRow();
+        return viewRow >= 0 ? tableModel.getStats(table.convertRowIndexToModel(viewRow)) : null;
+    }
+
+    private void showSlowestRoots() {
+        final MetadataStats stats = selectedStats();
+        StringBuilder sb = new StringBuilder();
+        if (stats != null) {
+            sb.append("Slowest classpath roots of ").append(stats.getProjectName()).append(":\n");
+            for (MetadataStats.RootLoad load : stats.slowestRoots(SLOWEST_ROOTS)) {
+                sb.append(String.format("%6d ms %6d properties  %s%n", load.millis(), load.properties(), load.root()));
+            }
+        } else {
+            sb.append("Select a project to see its slowest classpath roots");
+        }
+        taRoots.setText(sb.toString());
+        taRoots.setCaretPosition(0);
+    }
+
+    private static class StatsTableModel extends AbstractTableModel {
+
+        private static final String[] COLUMNS = {
+            "Project", "Properties", "Heap (KB)", "Refreshes", "Last refresh (ms)", "Max refresh (ms)", "Lookups",
+            "Lookup mean (µs)", "Lookup p99 (µs)", "Registry hits", "Cache hits", "Cache misses",
+            "Evictions", "Completions", "Completion p99 (µs)", "Partial completions"
+        };
+        private List<MetadataStats> stats = List.of();
+
+        void setStats(List<MetadataStats> stats) {
+            this.stats = stats;
+            fireTableDataChanged();
+        }
+
+        MetadataStats getStats(int row) {
+            return stats.get(row);
+        }
+
+        int indexOf(MetadataStats item) {
+            return stats.indexOf(item);
+        }
+
+        @Override
+        public int getRowCount() {
+            return stats.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column == 0 ? String.class : Long.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            final MetadataStats item = stats.get(row);
+            return switch (column) {
+                case 0 -> item.getProjectName();
+                case 1 -> (long) item.getPropertyCount();
+                case 2 -> item.getEstimatedHeapBytes() / 1024;
+                case 3 -> item.getRefreshCount();
+                case 4 -> item.getLastRefreshMillis();
+                case 5 -> item.getMaxRefreshMillis();
+                case 6 -> item.getLookupCount();
+                case 7 -> item.getLookupMeanMicros();
+                case 8 -> item.getLookupP99Micros();
+                case 9 -> item.getRegistryHits();
+                case 10 -> item.getCacheHits();
+                case 11 -> item.getCacheMisses();
+                case 12 -> item.getEvictions();
+                case 13 -> item.getCompletionCount();
+                case 14 -> item.getCompletionP99Micros();
+                case 15 -> item.getPartialCompletions();
+                default -> throw new AssertionError();
+            };
+        }
+    }
+}
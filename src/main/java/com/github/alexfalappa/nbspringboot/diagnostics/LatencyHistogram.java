@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.diagnostics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of latencies.
+ * <p>
+ * Latencies are counted in buckets whose upper bounds are powers of two microseconds, up to about one second, so that
+ * recording is cheap enough for hot paths. Percentiles are approximated by the upper bound of the bucket they fall in.
+ *
+ * @author Alessandro Falappa
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 21;
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        final long micros = Math.max(nanos / 1000, 1);
+        // bucket i holds latencies up to 2^i microseconds
+        final int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros - 1), BUCKETS - 1);
+        counts[bucket].increment();
+        totalNanos.add(nanos);
+    }
+
+    public long getCount() {
+        long ret = 0;
+        for (LongAdder count : counts) {
+            ret += count.sum();
+        }
+        return ret;
+    }
+
+    public long getMeanMicros() {
+        final long count = getCount();
+        return count > 0 ? totalNanos.sum() / count / 1000 : 0;
+    }
+
+    /**
+     * Approximates a percentile of the recorded latencies.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound in microseconds of the bucket holding the percentile, 0 if nothing was recorded
+     */
+    public long getPercentileMicros(double percentile) {
+        final long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i].sum();
+            if (seen >= rank) {
+                return 1L << i;
+            }
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+        totalNanos.reset();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * IDE wide registry of the configuration metadata statistics of open projects.
+ * <p>
+ * Registered statistics are also published as MXBeans in the platform MBean server, under the
+ * {@value #DOMAIN}{@code :type=MetadataStats} name with a {@code project} key holding the project folder path.
+ *
+ * @author Alessandro Falappa
+ */
+public final class MetadataDiagnostics {
+
+    public static final String DOMAIN = "com.github.alexfalappa.nbspringboot";
+    private static final Logger logger = Logger.getLogger(MetadataDiagnostics.class.getName());
+    private static final Map<String, MetadataStats> STATS = new ConcurrentHashMap<>();
+
+    // prevent instantiation
+    private MetadataDiagnostics() {
+    }
+
+    /**
+     * Registers the statistics of a project, replacing previously registered ones for the same project.
+     *
+     * @param stats the project statistics
+     */
+    public static void register(MetadataStats stats) {
+        final MetadataStats previous = STATS.put(stats.getProjectId(), stats);
+        if (previous == stats) {
+            return;
+        }
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = objectName(stats);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(stats, name);
+            logger.log(FINE, "Registered metadata statistics MBean {0}", name);
+        } catch (JMException ex) {
+            logger.log(WARNING, "Could not register metadata statistics MBean", ex);
+        }
+    }
+
+    /**
+     * Unregisters the statistics of a project.
+     *
+     * @param stats the project statistics
+     */
+    public static void unregister(MetadataStats stats) {
+        if (!STATS.remove(stats.getProjectId(), stats)) {
+            return;
+        }
+        try {
+            final ObjectName name = objectName(stats);
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException ex) {
+            logger.log(WARNING, "Could not unregister metadata statistics MBean", ex);
+        }
+    }
+
+    /**
+     * Gets the statistics of all registered projects.
+     *
+     * @return a snapshot of the registered statistics
+     */
+    public static Collection<MetadataStats> all() {
+        return List.copyOf(STATS.values());
+    }
+
+    private static ObjectName objectName(MetadataStats stats) throws JMException {
+        return new ObjectName(DOMAIN + ":type=MetadataStats,project=" + ObjectName.quote(stats.getProjectId()));
+    }
+}
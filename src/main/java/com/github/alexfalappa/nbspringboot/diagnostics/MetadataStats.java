@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.diagnostics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the configuration metadata of a project.
+ * <p>
+ * Collects refresh durations, load times of each classpath root, property lookup and completion latencies, cache
+ * effectiveness and an estimate of the retained heap. Recording methods are lock free and meant to be called by the
+ * metadata service on hot paths.
+ *
+ * @author Alessandro Falappa
+ */
+public final class MetadataStats implements MetadataStatsMXBean {
+
+    private static final int SLOWEST_ROOTS = 10;
+    private final String projectId;
+    private volatile String projectName;
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAccumulator maxRefreshMillis = new LongAccumulator(Long::max, 0);
+    private final LatencyHistogram lookups = new LatencyHistogram();
+    private final LatencyHistogram completions = new LatencyHistogram();
+    private final LongAdder partialCompletions = new LongAdder();
+    private final LongAdder registryHits = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Map<String, RootLoad> rootLoads = new ConcurrentHashMap<>();
+    private volatile long lastRefreshMillis;
+    private volatile int propertyCount;
+    private volatile long estimatedHeapBytes;
+
+    /**
+     * Load of the configuration metadata of a classpath root.
+     *
+     * @param root the classpath root display name
+     * @param millis the load time in milliseconds
+     * @param properties the number of properties loaded
+     */
+    public record RootLoad(String root, long millis, int properties) {
+    }
+
+    /**
+     * Creates project statistics.
+     *
+     * @param projectId a unique project identifier, e.g. the project folder path
+     * @param projectName the project display name
+     */
+    public MetadataStats(String projectId, String projectName) {
+        this.projectId = projectId;
+        this.projectName = projectName;
+    }
+
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+    public void recordRefresh(long millis, int properties, long heapBytes) {
+        refreshCount.increment();
+        maxRefreshMillis.accumulate(millis);
+        lastRefreshMillis = millis;
+        propertyCount = properties;
+        estimatedHeapBytes = heapBytes;
+    }
+
+    public void recordRootLoad(String root, long millis, int properties) {
+        rootLoads.put(root, new RootLoad(root, millis, properties));
+    }
+
+    public void recordLookup(long nanos) {
+        lookups.record(nanos);
+    }
+
+    /**
+     * Records the latency of a completion query.
+     *
+     * @param nanos the query duration in nanoseconds
+     * @param partial whether the query ran out of time and gave partial results
+     */
+    public void recordCompletion(long nanos, boolean partial) {
+        completions.record(nanos);
+        if (partial) {
+            partialCompletions.increment();
+        }
+    }
+
+    public void recordRegistryHit() {
+        registryHits.increment();
+    }
+
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    public void recordEviction() {
+        evictions.increment();
+        propertyCount = 0;
+        estimatedHeapBytes = 0;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    /**
+     * Gets the slowest loads of classpath roots.
+     *
+     * @param max the maximum number of loads to return
+     * @return the loads sorted by decreasing load time
+     */
+    public List<RootLoad> slowestRoots(int max) {
+        return rootLoads.values().stream()
+                .sorted(Comparator.comparingLong(RootLoad::millis).reversed())
+                .limit(max)
+                .toList();
+    }
+
+    @Override
+    public String getProjectName() {
+        return projectName;
+    }
+
+    @Override
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    @Override
+    public long getLastRefreshMillis() {
+        return lastRefreshMillis;
+    }
+
+    @Override
+    public long getMaxRefreshMillis() {
+        return maxRefreshMillis.get();
+    }
+
+    @Override
+    public int getPropertyCount() {
+        return propertyCount;
+    }
+
+    @Override
+    public long getEstimatedHeapBytes() {
+        return estimatedHeapBytes;
+    }
+
+    @Override
+    public long getLookupCount() {
+        return lookups.getCount();
+    }
+
+    @Override
+    public long getLookupMeanMicros() {
+        return lookups.getMeanMicros();
+    }
+
+    @Override
+    public long getLookupP50Micros() {
+        return lookups.getPercentileMicros(50);
+    }
+
+    @Override
+    public long getLookupP99Micros() {
+        return lookups.getPercentileMicros(99);
+    }
+
+    @Override
+    public long getCompletionCount() {
+        return completions.getCount();
+    }
+
+    @Override
+    public long getCompletionP50Micros() {
+        return completions.getPercentileMicros(50);
+    }
+
+    @Override
+    public long getCompletionP99Micros() {
+        return completions.getPercentileMicros(99);
+    }
+
+    @Override
+    public long getPartialCompletions() {
+        return partialCompletions.sum();
+    }
+
+    @Override
+    public long getRegistryHits() {
+        return registryHits.sum();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String[] getSlowestRootLoads() {
+        return slowestRoots(SLOWEST_ROOTS).stream()
+                .map(load -> String.format("%s: %d ms, %d properties", load.root(), load.millis(), load.properties()))
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public void reset() {
+        refreshCount.reset();
+        maxRefreshMillis.reset();
+        lookups.reset();
+        completions.reset();
+        partialCompletions.reset();
+        registryHits.reset();
+        cacheHits.reset();
+        cacheMisses.reset();
+        evictions.reset();
+        rootLoads.clear();
+    }
+}
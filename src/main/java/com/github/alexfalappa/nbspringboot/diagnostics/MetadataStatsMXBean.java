@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.diagnostics;
+
+/**
+ * Management interface exposing the configuration metadata statistics of a project.
+ *
+ * @author Alessandro Falappa
+ */
+public interface MetadataStatsMXBean {
+
+    String getProjectName();
+
+    long getRefreshCount();
+
+    long getLastRefreshMillis();
+
+    long getMaxRefreshMillis();
+
+    int getPropertyCount();
+
+    long getEstimatedHeapBytes();
+
+    long getLookupCount();
+
+    long getLookupMeanMicros();
+
+    long getLookupP50Micros();
+
+    long getLookupP99Micros();
+
+    long getCompletionCount();
+
+    long getCompletionP50Micros();
+
+    long getCompletionP99Micros();
+
+    long getPartialCompletions();
+
+    long getRegistryHits();
+
+    long getCacheHits();
+
+    long getCacheMisses();
+
+    long getEvictions();
+
+    String[] getSlowestRootLoads();
+
+    void reset();
+}
@@ -23,10 +23,11 @@ import java.util.stream.Collectors;
 
 import org.apache.maven.artifact.Artifact;
 import org.netbeans.api.project.Project;
-import org.netbeans.modules.maven.api.NbMavenProject;
 import org.netbeans.spi.project.ProjectServiceProvider;
 import org.netbeans.spi.project.ui.RecommendedTemplates;
 
+import com.github.alexfalappa.nbspringboot.projects.service.api.DependencyIndex;
+
 import static com.github.alexfalappa.nbspringboot.templates.FileTemplates.CATEGORY_SPRING_BOOT;
 import static com.github.alexfalappa.nbspringboot.templates.FileTemplates.CATEGORY_SPRING_BOOT_ACTUATOR;
 import static com.github.alexfalappa.nbspringboot.templates.FileTemplates.CATEGORY_SPRING_DATA;
@@ -81,10 +82,10 @@ public class BootRecommendedTemplates implements RecommendedTemplates {
     }
 
     private Set<SpringDeps> getDependencies() {
-        return prj.getLookup().lookup(NbMavenProject.class)
-            .getMavenProject().getCompileArtifacts().stream()
-            .filter(artifact -> artifact.getScope().equals(Artifact.SCOPE_COMPILE))
-            .map(Artifact::getArtifactId)
+        return DependencyIndex.of(prj).getEntries().stream()
+            .filter(dep -> Artifact.SCOPE_COMPILE.equals(dep.scope()))
+            .map(DependencyIndex.Entry::artifactId)
+            .filter(Objects::nonNull)
             .map(BootRecommendedTemplates::getSpringDeps)
             .filter(Objects::nonNull)
             .collect(Collectors.toCollection(() -> EnumSet.noneOf(SpringDeps.class)));
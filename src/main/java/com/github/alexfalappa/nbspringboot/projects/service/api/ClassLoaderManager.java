@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import org.netbeans.api.java.classpath.ClassPath;
+import org.openide.filesystems.FileUtil;
+import org.openide.util.WeakListeners;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Hands out a shared class loader over a project execution classpath.
+ * <p>
+ * Used to load enums and to inspect classes during completion and highlighting. One loader is created per classpath
+ * version: when the classpath entries change the current loader is discarded and closed, and a new one is lazily created on
+ * next request. Loaders delegate to the platform class loader only, so they never see classes of the IDE itself.
+ * <p>
+ * Completion needs only the shape of classes (enum constants, modifiers), which is read from class files and cached per
+ * classpath version without loading any class, see {@link #getTypeShape(String)}.
+ * <p>
+ * Managers are kept per classpath instance, and should be released with {@link #release(ClassPath)} when the project is
+ * closed.
+ *
+ * @author Alessandro Falappa
+ */
+public final class ClassLoaderManager {
+
+    private static final Logger logger = Logger.getLogger(ClassLoaderManager.class.getName());
+    // guarded by itself
+    private static final Map<ClassPath, ClassLoaderManager> MANAGERS = new WeakHashMap<>();
+    // weak not to keep the key of MANAGERS reachable
+    private final WeakReference<ClassPath> classPath;
+    private final PropertyChangeListener listener = this::classPathChanged;
+    // guarded by this
+    private URLClassLoader loader;
+    private int version;
+    // shapes by binary name, replaced on each classpath change
+    private volatile Map<String, Optional<TypeShape>> shapes = new ConcurrentHashMap<>();
+
+    private ClassLoaderManager(ClassPath classPath) {
+        this.classPath = new WeakReference<>(classPath);
+        classPath.addPropertyChangeListener(WeakListeners.propertyChange(listener, classPath));
+    }
+
+    /**
+     * Gets the manager of a classpath, creating it on first request.
+     *
+     * @param classPath the classpath
+     * @return the manager
+     */
+    public static ClassLoaderManager forClassPath(ClassPath classPath) {
+        synchronized (MANAGERS) {
+            return MANAGERS.computeIfAbsent(classPath, ClassLoaderManager::new);
+        }
+    }
+
+    /**
+     * Releases the manager of a classpath, closing its class loader.
+     *
+     * @param classPath the classpath
+     */
+    public static void release(ClassPath classPath) {
+        final ClassLoaderManager manager;
+        synchronized (MANAGERS) {
+            manager = MANAGERS.remove(classPath);
+        }
+        if (manager != null) {
+            manager.invalidate();
+        }
+    }
+
+    /**
+     * Gets the class loader of the current classpath version.
+     *
+     * @return the shared class loader
+     */
+    public synchronized ClassLoader getClassLoader() {
+        if (loader == null) {
+            final ClassPath cp = classPath.get();
+            loader = new URLClassLoader("nbspringboot-classpath-" + version, cp != null ? urls(cp) : new URL[0],
+                    ClassLoader.getPlatformClassLoader());
+            logger.log(FINE, "Created class loader {0}", loader.getName());
+        }
+        return loader;
+    }
+
+    /**
+     * Gets the shape of a class read from its class file, without loading the class.
+     * <p>
+     * Names of nested classes are also accepted in canonical form (e.g. {@code java.util.Map.Entry}).
+     *
+     * @param binaryName the binary name of the class
+     * @return the class shape, empty if the class is not on the classpath or cannot be read
+     */
+    public Optional<TypeShape> getTypeShape(String binaryName) {
+        final Map<String, Optional<TypeShape>> cache = shapes;
+        Optional<TypeShape> ret = cache.get(binaryName);
+        if (ret == null) {
+            ret = readTypeShape(binaryName);
+            cache.put(binaryName, ret);
+        }
+        return ret;
+    }
+
+    /**
+     * Gets the current classpath version, incremented on each classpath change.
+     *
+     * @return the classpath version
+     */
+    public synchronized int getVersion() {
+        return version;
+    }
+
+    private void classPathChanged(PropertyChangeEvent evt) {
+        if (ClassPath.PROP_ENTRIES.equals(evt.getPropertyName()) || ClassPath.PROP_ROOTS.equals(evt.getPropertyName())) {
+            logger.log(FINE, "Classpath changed ({0}), invalidating class loader", evt.getPropertyName());
+            invalidate();
+        }
+    }
+
+    // Discard the current loader, closing it so that opened jars are released
+    private void invalidate() {
+        final URLClassLoader old;
+        synchronized (this) {
+            old = loader;
+            loader = null;
+            version++;
+            shapes = new ConcurrentHashMap<>();
+        }
+        if (old != null) {
+            try {
+                old.close();
+                logger.log(FINE, "Closed class loader {0}", old.getName());
+            } catch (IOException ex) {
+                logger.log(WARNING, "Could not close class loader", ex);
+            }
+        }
+    }
+
+    private Optional<TypeShape> readTypeShape(String binaryName) {
+        final ClassLoader cl = getClassLoader();
+        String name = binaryName;
+        while (true) {
+            try (InputStream in = cl.getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in != null) {
+                    return Optional.of(TypeShape.read(in));
+                }
+            } catch (IOException ex) {
+                logger.log(FINE, "Could not read class file of " + name, ex);
+                return Optional.empty();
+            }
+            // try the next outer class separator as a nested class separator
+            final int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return Optional.empty();
+            }
+            name = name.substring(0, dot) + '$' + name.substring(dot + 1);
+        }
+    }
+
+    // URLs loadable by a URLClassLoader: folders as they are, archive roots as the archive file
+    private static URL[] urls(ClassPath cp) {
+        List<URL> ret = new ArrayList<>();
+        for (ClassPath.Entry entry : cp.entries()) {
+            final URL url = entry.getURL();
+            ret.add(FileUtil.isArchiveArtifact(url) ? FileUtil.getArchiveFile(url) : url);
+        }
+        return ret.toArray(URL[]::new);
+    }
+}
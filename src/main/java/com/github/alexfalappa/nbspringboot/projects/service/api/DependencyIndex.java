@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+import org.netbeans.api.project.Project;
+import org.netbeans.modules.maven.api.NbMavenProject;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * Index of the resolved dependencies of a maven project.
+ * <p>
+ * Holds a {@code groupId:artifactId:version:scope} table of direct and transitive dependencies, with a trigram index over
+ * artifact ids for substring queries. Declared dependencies not resolved yet are included as direct dependencies.
+ * <p>
+ * An index is built once per maven model and stored in the model context, so it is naturally rebuilt when NetBeans reloads
+ * the model after a pom change.
+ *
+ * @author Alessandro Falappa
+ */
+public final class DependencyIndex {
+
+    private static final Logger logger = Logger.getLogger(DependencyIndex.class.getName());
+    private static final String CONTEXT_KEY = DependencyIndex.class.getName();
+    // guards the index stored in the maven models
+    private static final Object LOCK = new Object();
+    private static final DependencyIndex EMPTY = new DependencyIndex(List.of());
+    private final List<Entry> entries;
+    // groupId:artifactId to entry
+    private final Map<String, Entry> byKey = new HashMap<>();
+    // artifactId trigram to positions in entries
+    private final Map<String, BitSet> trigrams = new HashMap<>();
+
+    /**
+     * A dependency of the project.
+     *
+     * @param groupId the group id
+     * @param artifactId the artifact id
+     * @param version the resolved or declared version, may be null
+     * @param scope the scope
+     * @param direct whether the dependency is declared in the project pom
+     */
+    public record Entry(String groupId, String artifactId, String version, String scope, boolean direct) {
+
+        public String coordinates() {
+            return String.join(":", groupId, artifactId, String.valueOf(version), scope);
+        }
+    }
+
+    DependencyIndex(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            byKey.putIfAbsent(key(entry.groupId(), entry.artifactId()), entry);
+            final String artifactId = entry.artifactId();
+            if (artifactId != null) {
+                for (int j = 0; j + 3 <= artifactId.length(); j++) {
+                    trigrams.computeIfAbsent(artifactId.substring(j, j + 3), k -> new BitSet()).set(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the dependency index of a project.
+     *
+     * @param project the project, may be null
+     * @return the index, empty for null or non maven projects
+     */
+    public static DependencyIndex of(Project project) {
+        if (project != null) {
+            final NbMavenProject nbMvn = project.getLookup().lookup(NbMavenProject.class);
+            if (nbMvn != null) {
+                return of(nbMvn.getMavenProject());
+            }
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Gets the dependency index of a maven model, building it on first request.
+     *
+     * @param mvnProject the maven model, may be null
+     * @return the index
+     */
+    public static DependencyIndex of(MavenProject mvnProject) {
+        if (mvnProject == null) {
+            return EMPTY;
+        }
+        // the model is owned by the maven project support, do not lock on it
+        synchronized (LOCK) {
+            if (mvnProject.getContextValue(CONTEXT_KEY) instanceof DependencyIndex index) {
+                return index;
+            }
+            final DependencyIndex index = build(mvnProject);
+            mvnProject.setContextValue(CONTEXT_KEY, index);
+            return index;
+        }
+    }
+
+    private static DependencyIndex build(MavenProject mvnProject) {
+        final List<Dependency> declared = mvnProject.getDependencies();
+        Set<String> directKeys = new HashSet<>();
+        for (Dependency dep : declared) {
+            directKeys.add(key(dep.getGroupId(), dep.getArtifactId()));
+        }
+        List<Entry> entries = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Artifact artifact : mvnProject.getArtifacts()) {
+            final String key = key(artifact.getGroupId(), artifact.getArtifactId());
+            seen.add(key);
+            entries.add(new Entry(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), artifact.getScope(),
+                    directKeys.contains(key)));
+        }
+        // declared dependencies not resolved (yet)
+        for (Dependency dep : declared) {
+            if (seen.add(key(dep.getGroupId(), dep.getArtifactId()))) {
+                final String scope = dep.getScope() != null ? dep.getScope() : Artifact.SCOPE_COMPILE;
+                entries.add(new Entry(dep.getGroupId(), dep.getArtifactId(), dep.getVersion(), scope, true));
+            }
+        }
+        logger.log(FINE, "Indexed {0} dependencies of {1}", new Object[]{entries.size(), mvnProject.getId()});
+        return new DependencyIndex(entries);
+    }
+
+    /**
+     * Gets all dependencies, in resolution order.
+     *
+     * @return an unmodifiable list of dependencies
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Finds a dependency by coordinates.
+     *
+     * @param groupId the group id
+     * @param artifactId the artifact id
+     * @return the dependency, if present
+     */
+    public Optional<Entry> find(String groupId, String artifactId) {
+        return Optional.ofNullable(byKey.get(key(groupId, artifactId)));
+    }
+
+    /**
+     * Finds the dependencies whose artifact id contains the given string.
+     *
+     * @param search the string to look for
+     * @return the matching dependencies, in resolution order
+     */
+    public List<Entry> findByArtifactIdContaining(String search) {
+        List<Entry> ret = new ArrayList<>();
+        final BitSet candidates = candidates(search);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            final String artifactId = entries.get(i).artifactId();
+            if (artifactId != null && artifactId.contains(search)) {
+                ret.add(entries.get(i));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Tells whether a dependency declared in the project pom has an artifact id containing the given string.
+     *
+     * @param search the string to look for
+     * @return true if a direct dependency matches
+     */
+    public boolean hasDirectArtifactIdContaining(String search) {
+        return findByArtifactIdContaining(search).stream().anyMatch(Entry::direct);
+    }
+
+    // positions of entries possibly containing the search string
+    private BitSet candidates(String search) {
+        final BitSet ret = new BitSet();
+        if (search.length() < 3) {
+            ret.set(0, entries.size());
+            return ret;
+        }
+        for (int j = 0; j + 3 <= search.length(); j++) {
+            final BitSet positions = trigrams.get(search.substring(j, j + 3));
+            if (positions == null) {
+                return new BitSet();
+            }
+            if (j == 0) {
+                ret.or(positions);
+            } else {
+                ret.and(positions);
+            }
+        }
+        return ret;
+    }
+
+    private static String key(String groupId, String artifactId) {
+        return groupId + ':' + artifactId;
+    }
+}
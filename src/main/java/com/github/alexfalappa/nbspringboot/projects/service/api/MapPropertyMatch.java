@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+/**
+ * Resolution of a property name in map notation, e.g. {@code logging.level.com.acme}.
+ *
+ * @param property the metadata of the owning map property, e.g. {@code logging.level}
+ * @param key the map key part of the name, e.g. {@code com.acme}
+ * @param keyOffset the offset of the key in the resolved name
+ * @author Alessandro Falappa
+ */
+public record MapPropertyMatch(ConfigurationMetadataProperty property, String key, int keyOffset) {
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-parsed data type of a configuration property.
+ * <p>
+ * Recognizes maps ({@code java.util.Map<K,V>}), collections ({@code java.util.List<E>}, {@code java.util.Set<E>} and
+ * {@code java.util.Collection<E>}) and arrays ({@code E[]}). Descriptors are shared: the same instance is returned for the
+ * same type string.
+ * <p>
+ * A descriptor also resolves the {@link ValueCompleter}s applying to values of the type, so that value completion does not
+ * inspect type strings. Descriptors of all property types are created when indexing the metadata of a project.
+ *
+ * @author Alessandro Falappa
+ */
+public final class PropertyType {
+
+    private static final Map<String, PropertyType> CACHE = new ConcurrentHashMap<>();
+    private final String raw;
+    private final boolean map;
+    private final boolean collection;
+    private final boolean array;
+    private final String keyType;
+    private final String valueType;
+    private final Set<ValueCompleter> valueCompleters;
+    private final List<String> enumTypes;
+
+    private PropertyType(String raw) {
+        this.raw = raw;
+        String key = null;
+        String value = null;
+        boolean isMap = false;
+        boolean isCollection = false;
+        boolean isArray = false;
+        final int lt = raw.indexOf('<');
+        if (raw.endsWith("[]")) {
+            isArray = true;
+            value = raw.substring(0, raw.length() - 2);
+        } else if (lt > 0 && raw.endsWith(">")) {
+            final String args = raw.substring(lt + 1, raw.length() - 1);
+            switch (raw.substring(0, lt)) {
+                case "java.util.Map" -> {
+                    final int comma = topLevelComma(args);
+                    if (comma > 0) {
+                        isMap = true;
+                        key = args.substring(0, comma).trim();
+                        value = args.substring(comma + 1).trim();
+                    }
+                }
+                case "java.util.List", "java.util.Set", "java.util.Collection" -> {
+                    isCollection = true;
+                    value = args.trim();
+                }
+                default -> {
+                    // other generic type
+                }
+            }
+        }
+        this.map = isMap;
+        this.collection = isCollection;
+        this.array = isArray;
+        this.keyType = key;
+        this.valueType = value;
+        final Set<ValueCompleter> completers = EnumSet.noneOf(ValueCompleter.class);
+        final List<String> enums = new ArrayList<>(2);
+        // the type itself and the value type of maps, generic map values excluded
+        addCompleters(raw, completers, enums);
+        if (isMap && !value.contains("<")) {
+            addCompleters(value, completers, enums);
+        }
+        if (!enums.isEmpty()) {
+            completers.add(ValueCompleter.ENUM);
+        }
+        this.valueCompleters = Collections.unmodifiableSet(completers);
+        this.enumTypes = List.copyOf(enums);
+    }
+
+    /**
+     * Returns the shared descriptor of a data type.
+     *
+     * @param type the fully qualified type, as found in configuration metadata
+     * @return the type descriptor
+     */
+    public static PropertyType of(String type) {
+        Objects.requireNonNull(type);
+        return CACHE.computeIfAbsent(type, PropertyType::new);
+    }
+
+    public String getRaw() {
+        return raw;
+    }
+
+    public boolean isMap() {
+        return map;
+    }
+
+    public boolean isCollection() {
+        return collection;
+    }
+
+    public boolean isArray() {
+        return array;
+    }
+
+    /**
+     * Tells if values of this type are comma separated lists.
+     *
+     * @return true for collections and arrays
+     */
+    public boolean isSequence() {
+        return collection || array;
+    }
+
+    /**
+     * Returns the key type of a map.
+     *
+     * @return the key type or null if not a map
+     */
+    public String getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * Returns the value type of a map or the element type of a collection or array.
+     *
+     * @return the value or element type or null if not a map, collection or array
+     */
+    public String getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Returns the value completion strategies applying to this type.
+     *
+     * @return the value completers, in the order they should run
+     */
+    public Set<ValueCompleter> getValueCompleters() {
+        return valueCompleters;
+    }
+
+    /**
+     * Returns the types possibly being enums, whose constants complete values of this type.
+     *
+     * @return the candidate enum types, empty if none
+     */
+    public List<String> getEnumTypes() {
+        return enumTypes;
+    }
+
+    @Override
+    public String toString() {
+        return raw;
+    }
+
+    private static void addCompleters(String type, Set<ValueCompleter> completers, List<String> enums) {
+        switch (type) {
+            case "java.lang.Boolean" -> completers.add(ValueCompleter.BOOLEAN);
+            case "java.nio.charset.Charset" -> completers.add(ValueCompleter.CHARSET);
+            case "java.util.Locale" -> completers.add(ValueCompleter.LOCALE);
+            case "org.springframework.util.MimeType" -> completers.add(ValueCompleter.MIME_TYPE);
+            case "org.springframework.core.io.Resource" -> completers.add(ValueCompleter.RESOURCE);
+            case "java.time.Duration" -> completers.add(ValueCompleter.DURATION_UNIT);
+            case "org.springframework.util.unit.DataSize" -> completers.add(ValueCompleter.DATA_SIZE_UNIT);
+            default -> {
+                // any other plain class may be an enum, checked against the project classpath when completing
+                if (type.indexOf('.') > 0 && !type.contains("<") && !type.endsWith("[]") && !type.startsWith("java.lang.")) {
+                    enums.add(type);
+                }
+            }
+        }
+    }
+
+    // index of the comma separating the first generic argument from the others
+    private static int topLevelComma(String args) {
+        int depth = 0;
+        for (int i = 0; i < args.length(); i++) {
+            switch (args.charAt(i)) {
+                case '<' -> depth++;
+                case '>' -> depth--;
+                case ',' -> {
+                    if (depth == 0) {
+                        return i;
+                    }
+                }
+                default -> {
+                    // skip
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -33,6 +33,8 @@ public interface SpringBootService {
 
     void refresh();
 
+    boolean isMetadataComplete();
+
     ClassPath getManagedClassPath();
 
     Set<String> getPropertyNames();
@@ -43,10 +45,16 @@ public interface SpringBootService {
 
     ConfigurationMetadataProperty getPropertyMetadata(String propertyName);
 
+    MapPropertyMatch matchMapProperty(String propertyName);
+
     List<ConfigurationMetadataProperty> queryPropertyMetadata(String filter);
 
+    List<ConfigurationMetadataProperty> queryPropertyMetadataByPrefix(String prefix);
+
     HintProvider getHintProvider(String name);
 
+    void recordCompletion(long nanos, boolean partial);
+
     boolean hasPomDependency(String artifactId);
 
     String getRestartEnvVarName();
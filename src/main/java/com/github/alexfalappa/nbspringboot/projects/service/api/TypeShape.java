@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shape of a class as read from its class file: modifiers, supertypes and enum constants.
+ * <p>
+ * Reading the shape of a class neither loads nor initializes it, so no static initializer of project or library code runs
+ * inside the IDE. Type names are binary names (e.g. {@code java.util.Map$Entry}).
+ *
+ * @param binaryName the binary name of the class
+ * @param access the class access flags
+ * @param superName the binary name of the superclass, null for {@code java.lang.Object} and modules
+ * @param interfaces the binary names of the directly implemented interfaces
+ * @param enumConstants the names of the enum constants in declaration order, empty if not an enum
+ * @author Alessandro Falappa
+ */
+public record TypeShape(String binaryName, int access, String superName, List<String> interfaces, List<String> enumConstants) {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_ENUM = 0x4000;
+
+    public TypeShape {
+        interfaces = List.copyOf(interfaces);
+        enumConstants = List.copyOf(enumConstants);
+    }
+
+    public boolean isEnum() {
+        return (access & ACC_ENUM) != 0;
+    }
+
+    public boolean isInterface() {
+        return Modifier.isInterface(access);
+    }
+
+    public boolean isAbstract() {
+        return Modifier.isAbstract(access);
+    }
+
+    /**
+     * Reads the shape of a class from its class file bytes.
+     *
+     * @param in the class file contents, not closed
+     * @return the class shape
+     * @throws IOException if reading fails or the contents are not a class file
+     */
+    public static TypeShape read(InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // minor and major version
+        data.skipNBytes(4);
+        final String[] utf8 = new String[data.readUnsignedShort()];
+        final int[] classNames = new int[utf8.length];
+        for (int i = 1; i < utf8.length; i++) {
+            final int tag = data.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[i] = data.readUTF();
+                case 7 -> classNames[i] = data.readUnsignedShort();
+                case 8, 16, 19, 20 -> data.skipNBytes(2);
+                case 15 -> data.skipNBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> data.skipNBytes(4);
+                case 5, 6 -> {
+                    // long and double take two constant pool slots
+                    data.skipNBytes(8);
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        final int access = data.readUnsignedShort();
+        final String name = className(utf8, classNames, data.readUnsignedShort());
+        final String superName = className(utf8, classNames, data.readUnsignedShort());
+        final int interfaceCount = data.readUnsignedShort();
+        List<String> interfaces = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaces.add(className(utf8, classNames, data.readUnsignedShort()));
+        }
+        List<String> enumConstants = new ArrayList<>();
+        final int fieldCount = data.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            final int fieldAccess = data.readUnsignedShort();
+            final String fieldName = utf8[data.readUnsignedShort()];
+            // descriptor
+            data.skipNBytes(2);
+            final int attributeCount = data.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                data.skipNBytes(2);
+                data.skipNBytes(data.readInt() & 0xFFFFFFFFL);
+            }
+            if ((access & ACC_ENUM) != 0 && (fieldAccess & ACC_ENUM) != 0) {
+                enumConstants.add(fieldName);
+            }
+        }
+        // methods and attributes are of no interest
+        return new TypeShape(name, access, superName, interfaces, enumConstants);
+    }
+
+    private static String className(String[] utf8, int[] classNames, int index) throws IOException {
+        if (index == 0) {
+            return null;
+        }
+        if (index >= classNames.length || classNames[index] == 0) {
+            throw new IOException("Invalid class reference " + index);
+        }
+        return utf8[classNames[index]].replace('/', '.');
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+/**
+ * Value completion strategies driven by the data type of a configuration property.
+ * <p>
+ * The strategies applying to a data type are resolved once, together with the other traits of the type, by
+ * {@link PropertyType#getValueCompleters()}. Strategies driven by metadata hints and value providers are not included as
+ * they depend on the property rather than on its type.
+ *
+ * @author Alessandro Falappa
+ */
+public enum ValueCompleter {
+    /** {@code true} and {@code false}. */
+    BOOLEAN,
+    /** Names of the charsets available in the IDE runtime. */
+    CHARSET,
+    /** Tags of the locales available in the IDE runtime. */
+    LOCALE,
+    /** Common MIME types. */
+    MIME_TYPE,
+    /** Classpath and file system resource paths. */
+    RESOURCE,
+    /** Constants of the enum types listed by {@link PropertyType#getEnumTypes()}. */
+    ENUM,
+    /** Unit suffixes of {@code java.time.Duration} values. */
+    DURATION_UNIT,
+    /** Unit suffixes of {@code org.springframework.util.unit.DataSize} values. */
+    DATA_SIZE_UNIT
+}
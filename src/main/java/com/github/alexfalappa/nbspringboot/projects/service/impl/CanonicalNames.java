@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+/**
+ * Canonical form of configuration property names.
+ * <p>
+ * Follows the relaxed binding rules of Spring Boot 2+ {@code ConfigurationPropertyName}: elements separated by dots are
+ * compared lower-cased and ignoring non alphanumeric characters, so that {@code spring.jpa.open-in-view},
+ * {@code spring.jpa.openInView} and {@code spring.jpa.open_in_view} share the canonical form
+ * {@code spring.jpa.openinview}. Indexes and keys in square brackets are kept, lower-cased.
+ *
+ * @author Alessandro Falappa
+ */
+final class CanonicalNames {
+
+    // prevent instantiation
+    private CanonicalNames() {
+    }
+
+    /**
+     * Converts a property name to its canonical form.
+     *
+     * @param name the property name
+     * @return the canonical form
+     */
+    static String canonicalize(String name) {
+        if (isCanonical(name)) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        boolean inBrackets = false;
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (inBrackets) {
+                sb.append(Character.toLowerCase(c));
+                inBrackets = c != ']';
+            } else if (c == '[') {
+                sb.append(c);
+                inBrackets = true;
+            } else if (c == '.') {
+                sb.append(c);
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Strips a trailing index in square brackets from a canonical name.
+     *
+     * @param canonical the canonical name
+     * @return the name without the trailing index or null if the name does not end with an index
+     */
+    static String stripIndex(String canonical) {
+        if (canonical.endsWith("]")) {
+            final int idx = canonical.lastIndexOf('[');
+            if (idx > 0) {
+                return canonical.substring(0, idx);
+            }
+        }
+        return null;
+    }
+
+    // fast path avoiding allocations for names already in canonical form
+    private static boolean isCanonical(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
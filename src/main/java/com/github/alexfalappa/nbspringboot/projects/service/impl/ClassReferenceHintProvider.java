@@ -15,7 +15,6 @@
  */
 package com.github.alexfalappa.nbspringboot.projects.service.impl;
 
-import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Map;
@@ -33,6 +32,7 @@ import org.openide.filesystems.FileObject;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
 
 import com.github.alexfalappa.nbspringboot.cfgprops.completion.items.JavaTypeCompletionItem;
+import com.github.alexfalappa.nbspringboot.projects.service.api.ClassLoaderManager;
 import com.github.alexfalappa.nbspringboot.projects.service.api.HintProvider;
 
 /**
@@ -78,21 +78,18 @@ public class ClassReferenceHintProvider implements HintProvider {
 
     private void populate(Set<ElementHandle<TypeElement>> elements, String filter, boolean concrete,
             CompletionResultSet completionResultSet, int dotOffset, int caretOffset) throws IllegalStateException {
-        final ClassLoader classLoader = cpExec.getClassLoader(true);
+        // modifiers are read from class files, classes not in the execution classpath are ignored
+        final ClassLoaderManager loaders = ClassLoaderManager.forClassPath(cpExec);
         String filterLowcase = filter.toLowerCase();
         elements.forEach(handle -> {
             final String binaryName = handle.getBinaryName();
             if (binaryName.toLowerCase().contains(filterLowcase)) {
-                try {
-                    Class<?> loadedClass = classLoader.loadClass(binaryName);
-                    boolean isAbstract = Modifier.isAbstract(loadedClass.getModifiers());
-                    if (concrete ^ isAbstract) {
+                loaders.getTypeShape(binaryName).ifPresent(shape -> {
+                    if (concrete ^ shape.isAbstract()) {
                         completionResultSet.addItem(new JavaTypeCompletionItem(binaryName, handle.getKind(), dotOffset,
                                 caretOffset));
                     }
-                } catch (ClassNotFoundException ex) {
-                    // ignore unloadable classes
-                }
+                });
             }
         });
     }
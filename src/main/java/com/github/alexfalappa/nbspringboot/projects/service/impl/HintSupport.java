@@ -20,27 +20,36 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.nio.charset.Charset;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
 
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
 import javax.swing.JPanel;
 import javax.swing.filechooser.FileSystemView;
 
+import org.openide.util.RequestProcessor;
+
+import static java.util.logging.Level.FINE;
+
 /**
  * Support data for configuration property values completion.
+ * <p>
+ * Charset, locale and MIME type names are held in {@link ValueVocabulary} instances, built once on a background thread.
+ * The module installer starts building them at startup, see {@link #prepare()}, so that the first value completion does
+ * not have to query the runtime for available charsets and locales.
  *
  * @author Alessandro Falappa
  */
 public final class HintSupport {
 
-    private static Set<String> cachedCharsets = null;
-    private static Set<String> cachedLocales = null;
+    private static final Logger logger = Logger.getLogger(HintSupport.class.getName());
+    private static final RequestProcessor RP = new RequestProcessor("Spring Boot value hints", 1);
+    private static volatile CompletableFuture<Vocabularies> vocabularies;
     private final static FileSystemView fsView = FileSystemView.getFileSystemView();
     private final static Map<String, ImageIcon> iconCache = new HashMap<>();
     public final static Set<String> MIMETYPES = Set.of(
@@ -55,39 +64,69 @@ public final class HintSupport {
         "text/plain",
         "text/xml");
 
+    private record Vocabularies(ValueVocabulary charsets, ValueVocabulary locales, ValueVocabulary mimeTypes) {
+    }
+
     // prevent instantiation
     private HintSupport() {
     }
 
     /**
-     * Returns the set of all available {@link Charset} ids caching them.
+     * Starts building the vocabularies of value names in background, if not already started.
+     */
+    public static synchronized void prepare() {
+        if (vocabularies == null) {
+            vocabularies = CompletableFuture.supplyAsync(HintSupport::buildVocabularies, RP);
+        }
+    }
+
+    /**
+     * Returns the names of all available {@link Charset}s.
      * <p>
-     * Further calls get the cached set.
+     * Waits for the vocabularies being built in background, starting to build them if needed.
      *
-     * @return the Set of Charset ids
+     * @return the charset names vocabulary
      */
-    public static synchronized Set<String> getAllCharsets() {
-        if (cachedCharsets == null) {
-            cachedCharsets = Charset.availableCharsets().keySet();
-        }
-        return Collections.unmodifiableSet(cachedCharsets);
+    public static ValueVocabulary getCharsets() {
+        return getVocabularies().charsets();
     }
 
     /**
-     * Returns the set of all available {@link Locale} ids caching them.
+     * Returns the names of all available {@link Locale}s.
      * <p>
-     * Further calls get the cached set.
+     * Waits for the vocabularies being built in background, starting to build them if needed.
      *
-     * @return the Set of Charset ids
+     * @return the locale names vocabulary
      */
-    public static synchronized Set<String> getAllLocales() {
-        if (cachedLocales == null) {
-            cachedLocales = Arrays.stream(Locale.getAvailableLocales())
+    public static ValueVocabulary getLocales() {
+        return getVocabularies().locales();
+    }
+
+    /**
+     * Returns the common MIME types of {@link #MIMETYPES}.
+     *
+     * @return the MIME types vocabulary
+     */
+    public static ValueVocabulary getMimeTypes() {
+        return getVocabularies().mimeTypes();
+    }
+
+    private static Vocabularies getVocabularies() {
+        prepare();
+        return vocabularies.join();
+    }
+
+    private static Vocabularies buildVocabularies() {
+        final long start = System.currentTimeMillis();
+        final ValueVocabulary charsets = ValueVocabulary.of(Charset.availableCharsets().keySet());
+        final ValueVocabulary locales = ValueVocabulary.of(Arrays.stream(Locale.getAvailableLocales())
                 .map(Locale::toString)
                 .filter(locName -> !locName.isEmpty())
-                .collect(Collectors.toSet());
-        }
-        return Collections.unmodifiableSet(cachedLocales);
+                .distinct()
+                .toList());
+        logger.log(FINE, "Built value vocabularies of {0} charsets and {1} locales in {2} msecs",
+                new Object[]{charsets.size(), locales.size(), System.currentTimeMillis() - start});
+        return new Vocabularies(charsets, locales, ValueVocabulary.of(MIMETYPES));
     }
 
     /**
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.Deprecation;
+import org.springframework.boot.configurationmetadata.Hints;
+
+/**
+ * Compact configuration property keeping only what name validation and completion need.
+ * <p>
+ * Id, name, type and deprecation are held directly; description, default value and hints are fetched on demand from the
+ * {@link MetadataDetails} of the classpath root the property comes from.
+ *
+ * @author Alessandro Falappa
+ */
+final class LazyMetadataProperty extends ConfigurationMetadataProperty {
+
+    private final transient MetadataDetails details;
+    // position of the details in the persistent cache, negative if not cached
+    private final long position;
+
+    LazyMetadataProperty(String id, String name, String type, Deprecation deprecation, MetadataDetails details,
+            long position) {
+        this.details = details;
+        this.position = position;
+        setId(id);
+        setName(name);
+        setType(type);
+        // deprecated properties are few, keep their deprecation to avoid hydrating when highlighting or sorting
+        setDeprecation(deprecation);
+    }
+
+    long getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getDescription() {
+        final ConfigurationMetadataProperty full = details.get(this);
+        return full != null ? full.getDescription() : null;
+    }
+
+    @Override
+    public String getShortDescription() {
+        final ConfigurationMetadataProperty full = details.get(this);
+        return full != null ? full.getShortDescription() : null;
+    }
+
+    @Override
+    public Object getDefaultValue() {
+        final ConfigurationMetadataProperty full = details.get(this);
+        return full != null ? full.getDefaultValue() : null;
+    }
+
+    @Override
+    public Hints getHints() {
+        final ConfigurationMetadataProperty full = details.get(this);
+        return full != null ? full.getHints() : super.getHints();
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import org.openide.filesystems.FileAttributeEvent;
+import org.openide.filesystems.FileChangeListener;
+import org.openide.filesystems.FileEvent;
+import org.openide.filesystems.FileRenameEvent;
+import org.openide.filesystems.FileUtil;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * Watches the configuration metadata files produced or maintained inside a project.
+ * <p>
+ * Files are watched by path, so that creation, modification and deletion are all reported, also when the file or its
+ * parent folders do not exist yet (e.g. after a {@code mvn clean}). Changes are reported with the watched file to a
+ * callback, which is invoked on the filesystem event thread and is expected to return quickly.
+ *
+ * @author Alessandro Falappa
+ */
+final class LocalMetadataWatcher {
+
+    private static final Logger logger = Logger.getLogger(LocalMetadataWatcher.class.getName());
+    private final Consumer<File> onChange;
+    // watched files and their listeners, guarded by this
+    private final Map<File, FileChangeListener> listeners = new LinkedHashMap<>();
+
+    LocalMetadataWatcher(Consumer<File> onChange) {
+        this.onChange = onChange;
+    }
+
+    /**
+     * Starts watching the given files, replacing any previously watched ones.
+     *
+     * @param files the files to watch
+     */
+    synchronized void watch(Collection<File> files) {
+        stop();
+        for (File file : files) {
+            final File normalized = FileUtil.normalizeFile(file);
+            if (!listeners.containsKey(normalized)) {
+                final FileChangeListener listener = new Listener(normalized);
+                FileUtil.addFileChangeListener(listener, normalized);
+                listeners.put(normalized, listener);
+                logger.log(FINE, "Watching configuration metadata file {0}", normalized);
+            }
+        }
+    }
+
+    /**
+     * Stops watching all files.
+     */
+    synchronized void stop() {
+        listeners.forEach((file, listener) -> FileUtil.removeFileChangeListener(listener, file));
+        listeners.clear();
+    }
+
+    private final class Listener implements FileChangeListener {
+
+        private final File file;
+
+        Listener(File file) {
+            this.file = file;
+        }
+
+        @Override
+        public void fileDataCreated(FileEvent fe) {
+            onChange.accept(file);
+        }
+
+        @Override
+        public void fileChanged(FileEvent fe) {
+            onChange.accept(file);
+        }
+
+        @Override
+        public void fileDeleted(FileEvent fe) {
+            onChange.accept(file);
+        }
+
+        @Override
+        public void fileRenamed(FileRenameEvent fe) {
+            onChange.accept(file);
+        }
+
+        @Override
+        public void fileFolderCreated(FileEvent fe) {
+            // only the watched file is of interest
+        }
+
+        @Override
+        public void fileAttributeChanged(FileAttributeEvent fae) {
+            // only the watched file is of interest
+        }
+    }
+}
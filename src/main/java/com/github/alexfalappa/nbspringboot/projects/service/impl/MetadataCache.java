@@ -0,0 +1,405 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.openide.modules.Places;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.Deprecation;
+import org.springframework.boot.configurationmetadata.Hints;
+import org.springframework.boot.configurationmetadata.ValueHint;
+import org.springframework.boot.configurationmetadata.ValueProvider;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Persistent binary cache of the configuration metadata contained in classpath archives.
+ * <p>
+ * Each archive gets a cache file in the NetBeans cache directory, keyed by archive path, size and last modification time.
+ * Reading a cache file restores the configuration properties (with hints and deprecation) without any JSON parsing.
+ * <p>
+ * The description, default value and hints of each property are stored in a separate length prefixed block, so that
+ * compact properties can be loaded skipping them and their details read back on demand by position.
+ *
+ * @author Alessandro Falappa
+ */
+final class MetadataCache {
+
+    private static final Logger logger = Logger.getLogger(MetadataCache.class.getName());
+    private static final String CACHE_SUBDIR = "nb-springboot/cfgmetadata";
+    private static final int MAGIC = 0x5342_4D44;
+    private static final int FORMAT_VERSION = 2;
+    private static final byte VAL_NULL = 0;
+    private static final byte VAL_STRING = 1;
+    private static final byte VAL_BOOLEAN = 2;
+    private static final byte VAL_INTEGER = 3;
+    private static final byte VAL_LONG = 4;
+    private static final byte VAL_DOUBLE = 5;
+    private static final byte VAL_ARRAY = 6;
+
+    // prevent instantiation
+    private MetadataCache() {
+    }
+
+    /**
+     * Loads the cached configuration properties of the given archive as compact properties.
+     * <p>
+     * Descriptions, default values and hints are not loaded, they are read back on demand with
+     * {@link #loadDetails(File, String, long)} at the position kept by each property.
+     *
+     * @param archive the archive file
+     * @param details the details of the archive properties
+     * @return the map of compact properties by id or null if no valid cache entry exists
+     */
+    static Map<String, ConfigurationMetadataProperty> load(File archive, MetadataDetails details) {
+        final Path cacheFile = cacheFileFor(archive);
+        if (!Files.isReadable(cacheFile)) {
+            return null;
+        }
+        try {
+            // read at once, the position of details is what is left unread of the whole content
+            final byte[] content = Files.readAllBytes(cacheFile);
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+            if (!isUpToDate(in, archive)) {
+                return null;
+            }
+            final int count = in.readInt();
+            Map<String, ConfigurationMetadataProperty> ret = new LinkedHashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                final String id = readString(in);
+                final String name = readPooledString(in);
+                final String type = readPooledString(in);
+                final Deprecation depr = readDeprecation(in);
+                final long position = content.length - in.available();
+                final int length = in.readInt();
+                if (in.skipBytes(length) != length) {
+                    throw new EOFException();
+                }
+                ret.put(id, new LazyMetadataProperty(id, name, type, depr, details, position));
+            }
+            return ret;
+        } catch (IOException | RuntimeException ex) {
+            logger.log(WARNING, "Cannot read configuration metadata cache for " + archive, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Reads back the details of a property of the given archive.
+     *
+     * @param archive the archive file
+     * @param id the property id
+     * @param position the position of the property details in the cache file
+     * @return a property with id, description, default value and hints or null if the cache entry is gone or changed
+     */
+    static ConfigurationMetadataProperty loadDetails(File archive, String id, long position) {
+        try (RandomAccessFile raf = new RandomAccessFile(cacheFileFor(archive).toFile(), "r")) {
+            if (!isUpToDate(raf, archive)) {
+                return null;
+            }
+            raf.seek(position);
+            final byte[] block = new byte[raf.readInt()];
+            raf.readFully(block);
+            ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+            if (!id.equals(readDetails(new DataInputStream(new ByteArrayInputStream(block)), prop))) {
+                return null;
+            }
+            prop.setId(id);
+            return prop;
+        } catch (IOException | RuntimeException ex) {
+            logger.log(FINE, "Cannot read configuration metadata details of " + id + " for " + archive, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the configuration properties of the given archive in the cache.
+     * <p>
+     * Problems are logged and otherwise ignored.
+     *
+     * @param archive the archive file
+     * @param properties the map of properties by id
+     */
+    static void store(File archive, Map<String, ConfigurationMetadataProperty> properties) {
+        final Path cacheFile = cacheFileFor(archive);
+        try {
+            // write to a temporary file and then move to avoid partially written entries
+            final Path tmpFile = Files.createTempFile(cacheFile.getParent(), "entry", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, archive.getAbsolutePath());
+                out.writeLong(archive.length());
+                out.writeLong(archive.lastModified());
+                writeProperties(out, properties);
+            }
+            Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.log(FINE, "Cached configuration metadata of {0} in {1}", new Object[]{archive, cacheFile});
+        } catch (IOException | RuntimeException ex) {
+            logger.log(WARNING, "Cannot write configuration metadata cache for " + archive, ex);
+        }
+    }
+
+    static void writeProperties(DataOutput out, Map<String, ConfigurationMetadataProperty> properties) throws IOException {
+        out.writeInt(properties.size());
+        for (ConfigurationMetadataProperty prop : properties.values()) {
+            writeProperty(out, prop);
+        }
+    }
+
+    static Map<String, ConfigurationMetadataProperty> readProperties(DataInput in) throws IOException {
+        final int count = in.readInt();
+        Map<String, ConfigurationMetadataProperty> ret = new LinkedHashMap<>(count * 4 / 3 + 1);
+        for (int i = 0; i < count; i++) {
+            ConfigurationMetadataProperty prop = readProperty(in);
+            ret.put(prop.getId(), prop);
+        }
+        return ret;
+    }
+
+    // check the cache entry refers to the current version of the archive, reading the header
+    private static boolean isUpToDate(DataInput in, File archive) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            return false;
+        }
+        if (!archive.getAbsolutePath().equals(readString(in))
+                || in.readLong() != archive.length()
+                || in.readLong() != archive.lastModified()) {
+            logger.log(FINE, "Stale configuration metadata cache for {0}", archive);
+            return false;
+        }
+        return true;
+    }
+
+    private static Path cacheFileFor(File archive) {
+        final File cacheDir = Places.getCacheSubdirectory(CACHE_SUBDIR);
+        final String path = archive.getAbsolutePath();
+        return cacheDir.toPath().resolve(String.format("%s-%08x.bin", archive.getName(), path.hashCode()));
+    }
+
+    private static void writeProperty(DataOutput out, ConfigurationMetadataProperty prop) throws IOException {
+        writeString(out, prop.getId());
+        writeString(out, prop.getName());
+        writeString(out, prop.getType());
+        final Deprecation depr = prop.getDeprecation();
+        out.writeBoolean(depr != null);
+        if (depr != null) {
+            writeString(out, depr.getLevel() != null ? depr.getLevel().name() : null);
+            writeString(out, depr.getReason());
+            writeString(out, depr.getShortReason());
+            writeString(out, depr.getReplacement());
+        }
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        writeDetails(new DataOutputStream(block), prop);
+        out.writeInt(block.size());
+        out.write(block.toByteArray());
+    }
+
+    private static ConfigurationMetadataProperty readProperty(DataInput in) throws IOException {
+        ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+        prop.setId(readString(in));
+        prop.setName(readPooledString(in));
+        prop.setType(readPooledString(in));
+        prop.setDeprecation(readDeprecation(in));
+        in.readInt();
+        if (!prop.getId().equals(readDetails(in, prop))) {
+            throw new IOException("Mismatched details of " + prop.getId());
+        }
+        return prop;
+    }
+
+    private static Deprecation readDeprecation(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        Deprecation depr = new Deprecation();
+        final String level = readString(in);
+        if (level != null) {
+            depr.setLevel(Deprecation.Level.valueOf(level));
+        }
+        depr.setReason(readPooledString(in));
+        depr.setShortReason(readPooledString(in));
+        depr.setReplacement(readPooledString(in));
+        return depr;
+    }
+
+    // the details block repeats the property id to detect a cache entry rewritten in the meantime
+    private static void writeDetails(DataOutput out, ConfigurationMetadataProperty prop) throws IOException {
+        writeString(out, prop.getId());
+        writeString(out, prop.getDescription());
+        writeString(out, prop.getShortDescription());
+        writeValue(out, prop.getDefaultValue());
+        final Hints hints = prop.getHints();
+        writeValueHints(out, hints.getKeyHints());
+        writeValueProviders(out, hints.getKeyProviders());
+        writeValueHints(out, hints.getValueHints());
+        writeValueProviders(out, hints.getValueProviders());
+    }
+
+    // read the details block into the given property, returning the id it belongs to
+    private static String readDetails(DataInput in, ConfigurationMetadataProperty prop) throws IOException {
+        final String id = readString(in);
+        prop.setDescription(readPooledString(in));
+        prop.setShortDescription(readPooledString(in));
+        prop.setDefaultValue(readValue(in));
+        final Hints hints = prop.getHints();
+        readValueHints(in, hints.getKeyHints());
+        readValueProviders(in, hints.getKeyProviders());
+        readValueHints(in, hints.getValueHints());
+        readValueProviders(in, hints.getValueProviders());
+        return id;
+    }
+
+    private static void writeValueHints(DataOutput out, List<ValueHint> valueHints) throws IOException {
+        out.writeInt(valueHints.size());
+        for (ValueHint vh : valueHints) {
+            writeValue(out, vh.getValue());
+            writeString(out, vh.getDescription());
+            writeString(out, vh.getShortDescription());
+        }
+    }
+
+    private static void readValueHints(DataInput in, List<ValueHint> valueHints) throws IOException {
+        final int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            ValueHint vh = new ValueHint();
+            vh.setValue(readValue(in));
+            vh.setDescription(readPooledString(in));
+            vh.setShortDescription(readPooledString(in));
+            valueHints.add(vh);
+        }
+    }
+
+    private static void writeValueProviders(DataOutput out, List<ValueProvider> valueProviders) throws IOException {
+        out.writeInt(valueProviders.size());
+        for (ValueProvider vp : valueProviders) {
+            writeString(out, vp.getName());
+            final Map<String, Object> params = vp.getParameters();
+            out.writeInt(params.size());
+            for (Map.Entry<String, Object> entry : params.entrySet()) {
+                writeString(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        }
+    }
+
+    private static void readValueProviders(DataInput in, List<ValueProvider> valueProviders) throws IOException {
+        final int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            ValueProvider vp = new ValueProvider();
+            vp.setName(readPooledString(in));
+            final int paramCount = in.readInt();
+            for (int j = 0; j < paramCount; j++) {
+                final String key = readPooledString(in);
+                vp.getParameters().put(key, readValue(in));
+            }
+            valueProviders.add(vp);
+        }
+    }
+
+    private static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(VAL_NULL);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(VAL_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Integer i) {
+            out.writeByte(VAL_INTEGER);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(VAL_LONG);
+            out.writeLong(l);
+        } else if (value instanceof Double d) {
+            out.writeByte(VAL_DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof Object[] arr) {
+            out.writeByte(VAL_ARRAY);
+            out.writeInt(arr.length);
+            for (Object elem : arr) {
+                writeValue(out, elem);
+            }
+        } else {
+            out.writeByte(VAL_STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private static Object readValue(DataInput in) throws IOException {
+        final byte tag = in.readByte();
+        return switch (tag) {
+            case VAL_NULL -> null;
+            case VAL_STRING -> readPooledString(in);
+            case VAL_BOOLEAN -> in.readBoolean();
+            case VAL_INTEGER -> in.readInt();
+            case VAL_LONG -> in.readLong();
+            case VAL_DOUBLE -> in.readDouble();
+            case VAL_ARRAY -> {
+                Object[] arr = new Object[in.readInt()];
+                for (int i = 0; i < arr.length; i++) {
+                    arr[i] = readValue(in);
+                }
+                yield arr;
+            }
+            default -> throw new IOException("Unknown value tag " + tag);
+        };
+    }
+
+    // strings are written as length prefixed UTF-8 bytes (DataOutput.writeUTF is limited to 64KB)
+    private static void writeString(DataOutput out, String str) throws IOException {
+        if (str == null) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        final int len = in.readInt();
+        if (len < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[len];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // strings repeated across properties and jars are deduplicated
+    private static String readPooledString(DataInput in) throws IOException {
+        return StringPool.intern(readString(in));
+    }
+}
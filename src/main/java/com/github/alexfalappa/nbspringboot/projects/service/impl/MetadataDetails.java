@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Details of the configuration properties of a classpath root, materialized on demand.
+ * <p>
+ * Properties exposed to the rest of the plugin are compact {@link LazyMetadataProperty} instances delegating to this object
+ * for their description, default value and hints. Details are not kept in memory: they are read back from the
+ * {@link MetadataCache} entry of the root, or from its metadata file when not cached, without holding any lock. The details
+ * of the properties used most recently are kept in a small cache shared by all roots, as documentation and completion
+ * usually ask for several details of the same property in a row.
+ *
+ * @author Alessandro Falappa
+ */
+final class MetadataDetails {
+
+    private static final Logger logger = Logger.getLogger(MetadataDetails.class.getName());
+    private static final int RECENT_SIZE = 128;
+    // details of the properties used most recently, guarded by itself
+    private static final Map<LazyMetadataProperty, ConfigurationMetadataProperty> RECENT =
+            new LinkedHashMap<>(RECENT_SIZE * 4 / 3 + 1, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LazyMetadataProperty, ConfigurationMetadataProperty> eldest) {
+            return size() > RECENT_SIZE;
+        }
+    };
+    private final String rootId;
+    private final Source source;
+
+    /**
+     * Creates the details of a classpath root.
+     *
+     * @param rootId the identity of the classpath root, for logging
+     * @param source reads the details of a property
+     */
+    MetadataDetails(String rootId, Source source) {
+        this.rootId = rootId;
+        this.source = source;
+    }
+
+    /**
+     * Splits fully loaded properties into compact lazy properties whose details are materialized on demand.
+     * <p>
+     * The fully loaded properties are not referenced afterwards.
+     *
+     * @param rootId the identity of the classpath root, for logging
+     * @param full the fully loaded properties
+     * @param source reads the details of a property again
+     * @return the lazy properties, in the same order
+     */
+    static Map<String, ConfigurationMetadataProperty> split(String rootId, Map<String, ConfigurationMetadataProperty> full,
+            Source source) {
+        final MetadataDetails details = new MetadataDetails(rootId, source);
+        Map<String, ConfigurationMetadataProperty> ret = new LinkedHashMap<>(full.size() * 4 / 3 + 1);
+        for (Map.Entry<String, ConfigurationMetadataProperty> entry : full.entrySet()) {
+            final ConfigurationMetadataProperty prop = entry.getValue();
+            ret.put(entry.getKey(), new LazyMetadataProperty(prop.getId(), prop.getName(), prop.getType(),
+                    prop.getDeprecation(), details, -1));
+        }
+        return ret;
+    }
+
+    /**
+     * Gets the details of a property, reading them if not used recently.
+     *
+     * @param prop the compact property
+     * @return a property with the details or null if not available
+     */
+    ConfigurationMetadataProperty get(LazyMetadataProperty prop) {
+        synchronized (RECENT) {
+            final ConfigurationMetadataProperty recent = RECENT.get(prop);
+            if (recent != null) {
+                return recent;
+            }
+        }
+        logger.log(FINE, "Reading configuration metadata details of {0} from {1}", new Object[]{prop.getId(), rootId});
+        ConfigurationMetadataProperty ret;
+        try {
+            ret = source.read(prop.getId(), prop.getPosition());
+        } catch (IOException ex) {
+            logger.log(WARNING, "Unable to read configuration metadata details of " + rootId, ex);
+            return null;
+        }
+        if (ret != null) {
+            synchronized (RECENT) {
+                RECENT.put(prop, ret);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Reads the details of a single property of a classpath root.
+     */
+    @FunctionalInterface
+    interface Source {
+
+        /**
+         * Reads the details of a property.
+         *
+         * @param id the property id
+         * @param position the position of the details in the cache entry of the root, negative if not cached
+         * @return a property with the details or null if not found
+         * @throws IOException if the details cannot be read
+         */
+        ConfigurationMetadataProperty read(String id, long position) throws IOException;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import javax.management.NotificationEmitter;
+
+import org.openide.util.RequestProcessor;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.INFO;
+
+/**
+ * IDE wide policy evicting the configuration metadata of inactive projects.
+ * <p>
+ * Services register when their metadata gets loaded. Metadata of projects not used for a while is periodically evicted,
+ * and projects idle for a shorter time are evicted as well when the JVM reports that the heap is almost full after a
+ * garbage collection. Evicted services reload metadata on next use, see {@link SpringBootServiceImpl#evictIfIdleSince(long)}.
+ * <p>
+ * The idle timeout defaults to 30 minutes and can be changed with the {@value #IDLE_MINUTES_PROPERTY} system property.
+ *
+ * @author Alessandro Falappa
+ */
+final class MetadataEvictionPolicy {
+
+    static final String IDLE_MINUTES_PROPERTY = "nbspringboot.metadata.idleMinutes";
+    private static final Logger logger = Logger.getLogger(MetadataEvictionPolicy.class.getName());
+    private static final long IDLE_TIMEOUT_MS = Long.getLong(IDLE_MINUTES_PROPERTY, 30) * 60_000;
+    // under memory pressure projects idle for more than this are evicted
+    private static final long LOW_MEMORY_IDLE_MS = 60_000;
+    private static final int CHECK_INTERVAL_MS = 5 * 60_000;
+    // fraction of the tenured heap pool that after a collection signals memory pressure
+    private static final double LOW_MEMORY_THRESHOLD = 0.85;
+    private static final RequestProcessor RP = new RequestProcessor("Spring Boot metadata eviction", 1);
+    private static final RequestProcessor.Task CHECK_TASK = RP.create(MetadataEvictionPolicy::periodicCheck);
+    // registered services, guarded by itself
+    private static final Map<SpringBootServiceImpl, Boolean> SERVICES = new WeakHashMap<>();
+    // whether the low memory listener has been looked for, guarded by SERVICES
+    private static boolean lowMemoryListenerChecked = false;
+
+    // prevent instantiation
+    private MetadataEvictionPolicy() {
+    }
+
+    /**
+     * Registers a service whose metadata has been loaded.
+     *
+     * @param sbs the service
+     */
+    static void register(SpringBootServiceImpl sbs) {
+        synchronized (SERVICES) {
+            if (SERVICES.isEmpty()) {
+                CHECK_TASK.schedule(CHECK_INTERVAL_MS);
+            }
+            SERVICES.put(sbs, Boolean.TRUE);
+            if (!lowMemoryListenerChecked) {
+                lowMemoryListenerChecked = true;
+                installLowMemoryListener();
+            }
+        }
+    }
+
+    /**
+     * Unregisters a service whose metadata has been released or evicted.
+     *
+     * @param sbs the service
+     */
+    static void unregister(SpringBootServiceImpl sbs) {
+        synchronized (SERVICES) {
+            SERVICES.remove(sbs);
+        }
+    }
+
+    /**
+     * Selects the elements last used before a given time.
+     *
+     * @param <T> the type of elements
+     * @param elements the elements
+     * @param lastAccess gets the last access time of an element
+     * @param idleSince the time before which elements are considered idle
+     * @return the idle elements, least recently used first
+     */
+    static <T> List<T> selectIdle(Iterable<T> elements, ToLongFunction<T> lastAccess, long idleSince) {
+        List<T> ret = new ArrayList<>();
+        for (T element : elements) {
+            if (lastAccess.applyAsLong(element) < idleSince) {
+                ret.add(element);
+            }
+        }
+        ret.sort((e1, e2) -> Long.compare(lastAccess.applyAsLong(e1), lastAccess.applyAsLong(e2)));
+        return ret;
+    }
+
+    private static void periodicCheck() {
+        evictIdle(IDLE_TIMEOUT_MS);
+        synchronized (SERVICES) {
+            if (!SERVICES.isEmpty()) {
+                CHECK_TASK.schedule(CHECK_INTERVAL_MS);
+            }
+        }
+    }
+
+    private static void evictIdle(long idleMs) {
+        List<SpringBootServiceImpl> services;
+        synchronized (SERVICES) {
+            services = new ArrayList<>(SERVICES.keySet());
+        }
+        final long idleSince = System.currentTimeMillis() - idleMs;
+        int evicted = 0;
+        for (SpringBootServiceImpl sbs : selectIdle(services, SpringBootServiceImpl::getLastAccess, idleSince)) {
+            if (sbs.evictIfIdleSince(idleSince)) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            logger.log(INFO, "Evicted configuration metadata of {0} projects idle for more than {1} seconds",
+                    new Object[]{evicted, idleMs / 1000});
+        }
+    }
+
+    // Install a listener of collection usage threshold notifications of the tenured heap pool, setting the threshold unless
+    // already set by others
+    private static void installLowMemoryListener() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            // the tenured pool is the heap pool supporting usage thresholds
+            if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()
+                    && pool.isCollectionUsageThresholdSupported()) {
+                if (pool.getCollectionUsageThreshold() <= 0) {
+                    final long max = pool.getUsage().getMax();
+                    if (max <= 0) {
+                        return;
+                    }
+                    pool.setCollectionUsageThreshold((long) (max * LOW_MEMORY_THRESHOLD));
+                }
+                ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener((notification, handback) -> {
+                    if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+                        logger.fine("Low memory notification, evicting metadata of inactive projects");
+                        RP.post(() -> evictIdle(LOW_MEMORY_IDLE_MS));
+                    }
+                }, null, null);
+                logger.log(FINE, "Listening for low memory in pool {0} above {1} bytes",
+                        new Object[]{pool.getName(), pool.getCollectionUsageThreshold()});
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.Deprecation;
+import org.springframework.boot.configurationmetadata.ValueHint;
+import org.springframework.boot.configurationmetadata.ValueProvider;
+
+/**
+ * Streaming reader of {@code spring-configuration-metadata.json} files.
+ * <p>
+ * Reads the JSON in a single pass with a Jackson {@link JsonParser}, directly creating the configuration properties
+ * without building an intermediate JSON tree. The result is equivalent to the properties returned by
+ * {@code ConfigurationMetadataRepositoryJsonBuilder}: hints named after a property, or after a map property with a
+ * {@code .keys} or {@code .values} suffix, are attached to the property; groups are only used to resolve property names.
+ * When a property is declared more than once the first declaration is kept. Strings other than property ids are
+ * deduplicated through the {@link StringPool}.
+ *
+ * @author Alessandro Falappa
+ */
+final class MetadataJsonReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String KEYS_SUFFIX = ".keys";
+    private static final String VALUES_SUFFIX = ".values";
+    private static final String NEW_LINE = System.lineSeparator();
+
+    // prevent instantiation
+    private MetadataJsonReader() {
+    }
+
+    /**
+     * Reads configuration properties from a metadata JSON stream.
+     *
+     * @param is the stream to read, not closed by this method
+     * @return the properties by id, in declaration order
+     * @throws IOException in case of read problems or malformed JSON
+     */
+    static Map<String, ConfigurationMetadataProperty> read(InputStream is) throws IOException {
+        Map<String, ConfigurationMetadataProperty> props = new LinkedHashMap<>();
+        // group names by type and source type of properties, to resolve property names
+        Map<String, List<String>> groups = new HashMap<>();
+        Map<String, String> sourceTypes = new HashMap<>();
+        List<Hint> hints = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(is)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                final JsonToken token = parser.nextToken();
+                if (token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                switch (field) {
+                    case "groups":
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            readGroup(parser, groups);
+                        }
+                        break;
+                    case "properties":
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            readProperty(parser, props, sourceTypes);
+                        }
+                        break;
+                    case "hints":
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            final Hint hint = readHint(parser);
+                            if (hint.name != null) {
+                                hints.add(hint);
+                            }
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+        resolveNames(props, groups, sourceTypes);
+        applyHints(props, hints);
+        return props;
+    }
+
+    private static void readGroup(JsonParser parser, Map<String, List<String>> groups) throws IOException {
+        String name = null;
+        String type = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    name = parser.getValueAsString();
+                    break;
+                case "type":
+                    type = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (name != null && type != null) {
+            groups.computeIfAbsent(type, k -> new ArrayList<>(1)).add(name);
+        }
+    }
+
+    private static void readProperty(JsonParser parser, Map<String, ConfigurationMetadataProperty> props,
+            Map<String, String> sourceTypes) throws IOException {
+        ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+        String sourceType = null;
+        boolean deprecated = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name":
+                    prop.setId(parser.getValueAsString());
+                    break;
+                case "type":
+                    prop.setType(StringPool.intern(parser.getValueAsString()));
+                    break;
+                case "description":
+                    final String description = StringPool.intern(parser.getValueAsString());
+                    prop.setDescription(description);
+                    prop.setShortDescription(StringPool.intern(shortDescription(description)));
+                    break;
+                case "sourceType":
+                    sourceType = parser.getValueAsString();
+                    break;
+                case "defaultValue":
+                    prop.setDefaultValue(readValue(parser));
+                    break;
+                case "deprecated":
+                    deprecated = parser.getValueAsBoolean();
+                    break;
+                case "deprecation":
+                    prop.setDeprecation(readDeprecation(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (prop.getId() == null) {
+            return;
+        }
+        if (prop.getDeprecation() == null && deprecated) {
+            prop.setDeprecation(new Deprecation());
+        }
+        if (props.putIfAbsent(prop.getId(), prop) == null && sourceType != null) {
+            sourceTypes.put(prop.getId(), sourceType);
+        }
+    }
+
+    private static Deprecation readDeprecation(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Deprecation deprecation = new Deprecation();
+        deprecation.setLevel(Deprecation.Level.WARNING);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "level":
+                    final String level = parser.getValueAsString();
+                    if (level != null) {
+                        try {
+                            deprecation.setLevel(Deprecation.Level.valueOf(level.toUpperCase(Locale.ENGLISH)));
+                        } catch (IllegalArgumentException ex) {
+                            // unknown level, keep the default
+                        }
+                    }
+                    break;
+                case "reason":
+                    final String reason = StringPool.intern(parser.getValueAsString());
+                    deprecation.setReason(reason);
+                    deprecation.setShortReason(StringPool.intern(shortDescription(reason)));
+                    break;
+                case "replacement":
+                    deprecation.setReplacement(StringPool.intern(parser.getValueAsString()));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return deprecation;
+    }
+
+    private static Hint readHint(JsonParser parser) throws IOException {
+        Hint hint = new Hint();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken token = parser.nextToken();
+            switch (field) {
+                case "name":
+                    hint.name = parser.getValueAsString();
+                    break;
+                case "values":
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            hint.values.add(readValueHint(parser));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case "providers":
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            hint.providers.add(readValueProvider(parser));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return hint;
+    }
+
+    private static ValueHint readValueHint(JsonParser parser) throws IOException {
+        ValueHint valueHint = new ValueHint();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "value":
+                    valueHint.setValue(readValue(parser));
+                    break;
+                case "description":
+                    final String description = StringPool.intern(parser.getValueAsString());
+                    valueHint.setDescription(description);
+                    valueHint.setShortDescription(StringPool.intern(shortDescription(description)));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return valueHint;
+    }
+
+    private static ValueProvider readValueProvider(JsonParser parser) throws IOException {
+        ValueProvider provider = new ValueProvider();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken token = parser.nextToken();
+            switch (field) {
+                case "name":
+                    provider.setName(StringPool.intern(parser.getValueAsString()));
+                    break;
+                case "parameters":
+                    if (token == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            final String param = StringPool.intern(parser.currentName());
+                            parser.nextToken();
+                            provider.getParameters().put(param, readValue(parser));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return provider;
+    }
+
+    // read a scalar or array value at the current token, arrays become Object[] and nested objects are skipped
+    private static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return StringPool.intern(parser.getText());
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return parser.getIntValue();
+                    case LONG:
+                        return parser.getLongValue();
+                    default:
+                        return parser.getDoubleValue();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case START_ARRAY:
+                List<Object> elements = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elements.add(readValue(parser));
+                }
+                return elements.toArray();
+            default:
+                parser.skipChildren();
+                return null;
+        }
+    }
+
+    // strip the group prefix from the names of properties belonging to a group, as the Spring Boot builder does
+    private static void resolveNames(Map<String, ConfigurationMetadataProperty> props, Map<String, List<String>> groups,
+            Map<String, String> sourceTypes) {
+        for (ConfigurationMetadataProperty prop : props.values()) {
+            final String id = prop.getId();
+            String name = id;
+            final List<String> candidates = groups.get(sourceTypes.get(id));
+            if (candidates != null) {
+                String groupId = "";
+                for (String candidate : candidates) {
+                    if (id.startsWith(candidate) && candidate.length() > groupId.length()) {
+                        groupId = candidate;
+                    }
+                }
+                if (!groupId.isEmpty() && id.startsWith(groupId + ".")) {
+                    name = id.substring(groupId.length() + 1);
+                }
+            }
+            prop.setName(StringPool.intern(name));
+        }
+    }
+
+    private static void applyHints(Map<String, ConfigurationMetadataProperty> props, List<Hint> hints) {
+        for (Hint hint : hints) {
+            ConfigurationMetadataProperty prop = props.get(hint.name);
+            boolean keys = false;
+            if (prop == null) {
+                if (hint.name.endsWith(KEYS_SUFFIX)) {
+                    prop = props.get(hint.name.substring(0, hint.name.length() - KEYS_SUFFIX.length()));
+                    keys = true;
+                } else if (hint.name.endsWith(VALUES_SUFFIX)) {
+                    prop = props.get(hint.name.substring(0, hint.name.length() - VALUES_SUFFIX.length()));
+                }
+            }
+            if (prop != null) {
+                if (keys) {
+                    prop.getHints().getKeyHints().addAll(hint.values);
+                    prop.getHints().getKeyProviders().addAll(hint.providers);
+                } else {
+                    prop.getHints().getValueHints().addAll(hint.values);
+                    prop.getHints().getValueProviders().addAll(hint.providers);
+                }
+            }
+        }
+    }
+
+    // first sentence of a description, same logic as the Spring Boot builder
+    private static String shortDescription(String description) {
+        if (description == null) {
+            return null;
+        }
+        if (description.indexOf('.') != -1) {
+            BreakIterator breakIterator = BreakIterator.getSentenceInstance(Locale.US);
+            breakIterator.setText(description);
+            final String text = description.substring(breakIterator.first(), breakIterator.next()).trim();
+            StringBuilder sb = new StringBuilder(text.length());
+            for (String line : text.split(NEW_LINE)) {
+                sb.append(line.trim()).append(' ');
+            }
+            return sb.toString().trim();
+        }
+        return description.split(NEW_LINE)[0].trim();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, String.format("Expected %s but found %s", expected, actual));
+        }
+    }
+
+    // a hint as read from JSON, applied to properties once all of them are known
+    private static final class Hint {
+
+        private String name;
+        private final List<ValueHint> values = new ArrayList<>();
+        private final List<ValueProvider> providers = new ArrayList<>();
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+import com.github.alexfalappa.nbspringboot.projects.service.api.PropertyType;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * Immutable snapshot of the configuration metadata of a project.
+ * <p>
+ * Snapshots are fully built before being published by {@link SpringBootServiceImpl} so they can be freely read from any
+ * thread without locking. A rebuild creates a new snapshot with an increased version.
+ * <p>
+ * A snapshot keeps track of the contributions of each classpath root (a jar or a standalone metadata file) in classpath
+ * order, so that a new snapshot can be derived incrementally from the differences in classpath roots, see
+ * {@link #update(LinkedHashMap)}, or a single root can be replaced with {@link #splice(String, Map, boolean)}. Properties
+ * defined by multiple roots are taken from the first root in classpath order.
+ * <p>
+ * Each snapshot builds once a {@link PropertyNameIndex} for property name queries and a lookup table by canonical name
+ * (see {@link CanonicalNames}) for relaxed property lookups. Map and collection properties are also arranged in a
+ * {@link PropertyPrefixTrie} to resolve map keys and collection indexes in a single walk.
+ *
+ * @author Alessandro Falappa
+ */
+final class MetadataSnapshot {
+
+    private static final Logger logger = Logger.getLogger(MetadataSnapshot.class.getName());
+    // rough sizes of a compact property object, of a string excluding characters and of index entries per property
+    private static final int PROPERTY_BYTES = 64;
+    private static final int STRING_BYTES = 40;
+    private static final int INDEX_BYTES_PER_PROPERTY = 160;
+    static final MetadataSnapshot EMPTY = new MetadataSnapshot(0, new LinkedHashMap<>(), new HashMap<>(), new HashMap<>());
+
+    private final long version;
+    private final Map<String, Map<String, ConfigurationMetadataProperty>> contributions;
+    private final Map<String, ConfigurationMetadataProperty> properties;
+    // property id to id of owning classpath root
+    private final Map<String, String> owners;
+    private final Set<String> collectionProperties;
+    private final Set<String> mapProperties;
+    private final PropertyNameIndex nameIndex;
+    private final Map<String, ConfigurationMetadataProperty> canonicalProperties;
+    // map and collection properties by name segments
+    private final PropertyPrefixTrie prefixTrie;
+
+    private MetadataSnapshot(long version, LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> contributions,
+            Map<String, ConfigurationMetadataProperty> properties, Map<String, String> owners) {
+        this.version = version;
+        this.contributions = Collections.unmodifiableMap(contributions);
+        this.properties = Collections.unmodifiableMap(properties);
+        this.owners = owners;
+        Set<String> collProps = new HashSet<>();
+        Set<String> mapProps = new HashSet<>();
+        Map<String, ConfigurationMetadataProperty> trieProps = new HashMap<>();
+        // extract collection/map properties names based on heuristics
+        for (Map.Entry<String, ConfigurationMetadataProperty> entry : properties.entrySet()) {
+            final String type = entry.getValue().getType();
+            if (type != null) {
+                final String key = entry.getKey();
+                final PropertyType propType = PropertyType.of(type);
+                if (propType.isMap()) {
+                    mapProps.add(key);
+                    trieProps.put(key, entry.getValue());
+                }
+                if (propType.isCollection()) {
+                    collProps.add(key);
+                    trieProps.put(key, entry.getValue());
+                }
+            }
+        }
+        this.collectionProperties = Collections.unmodifiableSet(collProps);
+        this.mapProperties = Collections.unmodifiableSet(mapProps);
+        this.nameIndex = new PropertyNameIndex(properties);
+        // names sharing a canonical form resolve to the property of the first root in classpath order
+        Map<String, ConfigurationMetadataProperty> canonProps = new HashMap<>(properties.size() * 4 / 3 + 1);
+        for (Map.Entry<String, Map<String, ConfigurationMetadataProperty>> root : contributions.entrySet()) {
+            for (Map.Entry<String, ConfigurationMetadataProperty> entry : root.getValue().entrySet()) {
+                if (root.getKey().equals(owners.get(entry.getKey()))) {
+                    canonProps.putIfAbsent(CanonicalNames.canonicalize(entry.getKey()), entry.getValue());
+                }
+            }
+        }
+        this.canonicalProperties = canonProps;
+        this.prefixTrie = new PropertyPrefixTrie(trieProps);
+    }
+
+    /**
+     * Looks up a property by the canonical form of its name.
+     * <p>
+     * Also resolves array notation (trailing {@code [index]}) and keys of map properties.
+     *
+     * @param canonical the canonical property name
+     * @return the property metadata or null if not found
+     */
+    ConfigurationMetadataProperty getByCanonicalName(String canonical) {
+        ConfigurationMetadataProperty ret = canonicalProperties.get(canonical);
+        if (ret != null) {
+            return ret;
+        }
+        // try to interpret array notation
+        final String stripped = CanonicalNames.stripIndex(canonical);
+        if (stripped != null) {
+            ret = canonicalProperties.get(stripped);
+            if (ret != null) {
+                return ret;
+            }
+        }
+        // try to interpret map or collection notation (see if name starts with a known map or collection property)
+        final PropertyPrefixTrie.Match match = prefixTrie.longestMatch(canonical);
+        return match != null ? match.property() : null;
+    }
+
+    /**
+     * Resolves a property name in map notation to the owning map property.
+     *
+     * @param name the property name, raw or canonical
+     * @return the longest matching map property and the offset of the key in the given name, or null if the name does not
+     * start with a known map property followed by a separator
+     */
+    PropertyPrefixTrie.Match matchMapProperty(String name) {
+        final PropertyPrefixTrie.Match match = prefixTrie.longestMatch(name);
+        return match != null && mapProperties.contains(match.property().getId()) ? match : null;
+    }
+
+    /**
+     * Derives a new snapshot from this one given the contributions of the current classpath roots.
+     * <p>
+     * Only the properties of roots added or removed since this snapshot (or whose contribution object changed) are
+     * assigned again to the first root defining them in classpath order, all properties are when roots are reordered. If
+     * nothing changed this snapshot is returned.
+     *
+     * @param newContributions the properties contributed by each classpath root, in classpath order
+     * @return the updated snapshot
+     */
+    MetadataSnapshot update(LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> newContributions) {
+        List<String> removed = new ArrayList<>();
+        List<String> kept = new ArrayList<>();
+        for (Map.Entry<String, Map<String, ConfigurationMetadataProperty>> entry : contributions.entrySet()) {
+            if (newContributions.get(entry.getKey()) != entry.getValue()) {
+                removed.add(entry.getKey());
+            } else {
+                kept.add(entry.getKey());
+            }
+        }
+        List<String> added = new ArrayList<>();
+        List<String> keptOrder = new ArrayList<>();
+        for (Map.Entry<String, Map<String, ConfigurationMetadataProperty>> entry : newContributions.entrySet()) {
+            if (contributions.get(entry.getKey()) != entry.getValue()) {
+                added.add(entry.getKey());
+            } else {
+                keptOrder.add(entry.getKey());
+            }
+        }
+        final boolean reordered = !kept.equals(keptOrder);
+        if (removed.isEmpty() && added.isEmpty() && !reordered) {
+            return this;
+        }
+        logger.log(FINE, "Updating metadata snapshot: {0} roots removed, {1} roots added, reordered: {2}",
+                new Object[]{removed.size(), added.size(), reordered});
+        Map<String, ConfigurationMetadataProperty> newProps = new HashMap<>(properties);
+        Map<String, String> newOwners = new HashMap<>(owners);
+        // properties whose owner may change: owned by removed roots or defined by added roots, all when reordered
+        Set<String> affected = new HashSet<>();
+        if (reordered) {
+            newProps.clear();
+            newOwners.clear();
+            for (Map<String, ConfigurationMetadataProperty> props : newContributions.values()) {
+                affected.addAll(props.keySet());
+            }
+        } else {
+            for (String root : removed) {
+                for (String id : contributions.get(root).keySet()) {
+                    if (root.equals(owners.get(id))) {
+                        affected.add(id);
+                    }
+                }
+            }
+            for (String root : added) {
+                affected.addAll(newContributions.get(root).keySet());
+            }
+        }
+        // assign affected properties to the first root defining them in classpath order
+        for (String id : affected) {
+            newProps.remove(id);
+            newOwners.remove(id);
+            for (Map.Entry<String, Map<String, ConfigurationMetadataProperty>> entry : newContributions.entrySet()) {
+                final ConfigurationMetadataProperty prop = entry.getValue().get(id);
+                if (prop != null) {
+                    newProps.put(id, prop);
+                    newOwners.put(id, entry.getKey());
+                    break;
+                }
+            }
+        }
+        return new MetadataSnapshot(version + 1, new LinkedHashMap<>(newContributions), newProps, newOwners);
+    }
+
+    /**
+     * Derives a new snapshot replacing the contribution of a single classpath root.
+     * <p>
+     * A root not in this snapshot is added with the highest or lowest precedence, depending on the {@code first} flag.
+     *
+     * @param root the classpath root id
+     * @param props the new properties contributed by the root, null to remove the root
+     * @param first whether a new root takes precedence over the others
+     * @return the updated snapshot
+     */
+    MetadataSnapshot splice(String root, Map<String, ConfigurationMetadataProperty> props, boolean first) {
+        LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> newContributions = new LinkedHashMap<>();
+        if (props != null && first && !contributions.containsKey(root)) {
+            newContributions.put(root, props);
+        }
+        for (Map.Entry<String, Map<String, ConfigurationMetadataProperty>> entry : contributions.entrySet()) {
+            if (!entry.getKey().equals(root)) {
+                newContributions.put(entry.getKey(), entry.getValue());
+            } else if (props != null) {
+                newContributions.put(root, props);
+            }
+        }
+        if (props != null) {
+            newContributions.putIfAbsent(root, props);
+        }
+        return update(newContributions);
+    }
+
+    /**
+     * Roughly estimates the heap retained by this snapshot.
+     * <p>
+     * Counts the compact properties and the indexes, as if strings were not shared with other snapshots. Lazily loaded
+     * descriptions, default values and hints are not counted.
+     *
+     * @param interned whether a string instance shared by several properties is counted once, otherwise each reference is
+     * counted as a distinct string as if strings were not interned
+     * @return the estimated size in bytes
+     */
+    long estimateHeapBytes(boolean interned) {
+        long ret = (long) properties.size() * (PROPERTY_BYTES + INDEX_BYTES_PER_PROPERTY);
+        final Set<String> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ConfigurationMetadataProperty prop : properties.values()) {
+            ret += stringBytes(prop.getId(), interned, counted) + stringBytes(prop.getName(), interned, counted)
+                    + stringBytes(prop.getType(), interned, counted);
+        }
+        return ret;
+    }
+
+    private static long stringBytes(String str, boolean interned, Set<String> counted) {
+        if (str == null || interned && !counted.add(str)) {
+            return 0;
+        }
+        return STRING_BYTES + str.length();
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    Map<String, Map<String, ConfigurationMetadataProperty>> getContributions() {
+        return contributions;
+    }
+
+    Map<String, ConfigurationMetadataProperty> getProperties() {
+        return properties;
+    }
+
+    Set<String> getCollectionProperties() {
+        return collectionProperties;
+    }
+
+    Set<String> getMapProperties() {
+        return mapProperties;
+    }
+
+    PropertyNameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+}
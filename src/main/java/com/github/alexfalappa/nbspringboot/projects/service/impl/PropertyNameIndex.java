@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+/**
+ * Index of configuration property names supporting fast prefix and substring queries.
+ * <p>
+ * Names are sorted once and identified by their ordinal in sorted order. Prefix queries walk a compressed prefix trie whose
+ * nodes map to contiguous ranges of ordinals; substring queries use a trigram index to restrict the names to verify.
+ * Results are always returned in name order.
+ *
+ * @author Alessandro Falappa
+ */
+final class PropertyNameIndex {
+
+    private final String[] names;
+    private final ConfigurationMetadataProperty[] properties;
+    private final Node root;
+    private final TrigramIndex trigrams;
+
+    PropertyNameIndex(Map<String, ConfigurationMetadataProperty> props) {
+        names = props.keySet().toArray(String[]::new);
+        Arrays.sort(names);
+        properties = new ConfigurationMetadataProperty[names.length];
+        for (int i = 0; i < names.length; i++) {
+            properties[i] = props.get(names[i]);
+        }
+        root = names.length > 0 ? Node.build(names, 0, names.length, 0) : null;
+        trigrams = new TrigramIndex(names);
+    }
+
+    /**
+     * Returns all the properties in name order.
+     *
+     * @return an unmodifiable list of properties
+     */
+    List<ConfigurationMetadataProperty> all() {
+        return Collections.unmodifiableList(Arrays.asList(properties));
+    }
+
+    /**
+     * Returns the properties whose name starts with the given prefix, in name order.
+     *
+     * @param prefix the name prefix
+     * @return an unmodifiable list of properties
+     */
+    List<ConfigurationMetadataProperty> byPrefix(String prefix) {
+        Node node = root;
+        int pos = 0;
+        while (node != null) {
+            final String label = node.label;
+            final int len = Math.min(label.length(), prefix.length() - pos);
+            if (!prefix.regionMatches(pos, label, 0, len)) {
+                break;
+            }
+            pos += len;
+            if (pos == prefix.length()) {
+                return Collections.unmodifiableList(Arrays.asList(properties).subList(node.from, node.to));
+            }
+            node = node.child(prefix.charAt(pos));
+        }
+        return List.of();
+    }
+
+    /**
+     * Returns the properties whose name contains the given string, in name order.
+     *
+     * @param filter the string to look for
+     * @return a list of properties
+     */
+    List<ConfigurationMetadataProperty> containing(String filter) {
+        if (filter == null || filter.isEmpty()) {
+            return all();
+        }
+        List<ConfigurationMetadataProperty> ret = new ArrayList<>();
+        final int[] candidates = trigrams.candidates(filter);
+        if (candidates == null) {
+            // filter too short to use trigrams
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].contains(filter)) {
+                    ret.add(properties[i]);
+                }
+            }
+        } else {
+            for (int ord : candidates) {
+                if (names[ord].contains(filter)) {
+                    ret.add(properties[ord]);
+                }
+            }
+        }
+        return ret;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    // compressed prefix trie node, covering the ordinals range [from, to) of sorted names
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private final String label;
+        private final int from;
+        private final int to;
+        private char[] childChars;
+        private Node[] children = NO_CHILDREN;
+
+        private Node(String label, int from, int to) {
+            this.label = label;
+            this.from = from;
+            this.to = to;
+        }
+
+        private Node child(char c) {
+            if (childChars == null) {
+                return null;
+            }
+            final int idx = Arrays.binarySearch(childChars, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+
+        // build the subtree of the names in [from, to) sharing the first depth chars
+        private static Node build(String[] names, int from, int to, int depth) {
+            // in a sorted range the common prefix is the one of the first and last names
+            final String first = names[from];
+            final String last = names[to - 1];
+            int end = depth;
+            final int max = Math.min(first.length(), last.length());
+            while (end < max && first.charAt(end) == last.charAt(end)) {
+                end++;
+            }
+            Node node = new Node(first.substring(depth, end), from, to);
+            // a name ending at this node sorts first, skip it
+            int i = first.length() == end ? from + 1 : from;
+            List<Node> kids = new ArrayList<>();
+            StringBuilder chars = new StringBuilder();
+            while (i < to) {
+                final char c = names[i].charAt(end);
+                int j = i + 1;
+                while (j < to && names[j].charAt(end) == c) {
+                    j++;
+                }
+                kids.add(build(names, i, j, end));
+                chars.append(c);
+                i = j;
+            }
+            if (!kids.isEmpty()) {
+                node.children = kids.toArray(Node[]::new);
+                node.childChars = chars.toString().toCharArray();
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Trigram index over an array of strings.
+     * <p>
+     * Maps each trigram to the sorted array of ordinals of the strings containing it.
+     */
+    static final class TrigramIndex {
+
+        private final Map<Long, int[]> postings;
+
+        TrigramIndex(String[] strings) {
+            Map<Long, int[]> building = new HashMap<>();
+            // postings under construction hold their size in the first slot
+            for (int ord = 0; ord < strings.length; ord++) {
+                final String str = strings[ord];
+                for (int i = 0; i + 3 <= str.length(); i++) {
+                    final Long key = key(str, i);
+                    int[] list = building.get(key);
+                    if (list == null) {
+                        list = new int[]{0, 0, 0, 0};
+                        building.put(key, list);
+                    }
+                    final int size = list[0];
+                    // skip duplicate trigrams in the same string
+                    if (size > 0 && list[size] == ord) {
+                        continue;
+                    }
+                    if (size + 1 == list.length) {
+                        list = Arrays.copyOf(list, list.length * 2);
+                        building.put(key, list);
+                    }
+                    list[size + 1] = ord;
+                    list[0] = size + 1;
+                }
+            }
+            postings = new HashMap<>(building.size() * 4 / 3 + 1);
+            building.forEach((k, v) -> postings.put(k, Arrays.copyOfRange(v, 1, v[0] + 1)));
+        }
+
+        /**
+         * Returns the ordinals of the strings possibly containing the given string.
+         * <p>
+         * Candidates have to be verified by the caller.
+         *
+         * @param str the string to look for
+         * @return the sorted array of candidate ordinals or null if the string is too short
+         */
+        int[] candidates(String str) {
+            if (str.length() < 3) {
+                return null;
+            }
+            int[] smallest = null;
+            for (int i = 0; i + 3 <= str.length(); i++) {
+                final int[] list = postings.get(key(str, i));
+                if (list == null) {
+                    return new int[0];
+                }
+                if (smallest == null || list.length < smallest.length) {
+                    smallest = list;
+                }
+            }
+            return smallest;
+        }
+
+        private static Long key(String str, int idx) {
+            return ((long) str.charAt(idx) << 32) | ((long) str.charAt(idx + 1) << 16) | str.charAt(idx + 2);
+        }
+    }
+}
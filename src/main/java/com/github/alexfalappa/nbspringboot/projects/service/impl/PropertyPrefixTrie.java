@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+/**
+ * Trie of property names split in segments, for longest prefix matching of map and collection notations.
+ * <p>
+ * Segments are separated by dots or opening square brackets and compared in canonical form (see {@link CanonicalNames}).
+ * Given a name like {@code logging.level.com.acme} a single walk finds the owning property {@code logging.level} and the
+ * offset of the key {@code com.acme}.
+ *
+ * @author Alessandro Falappa
+ */
+final class PropertyPrefixTrie {
+
+    private final Node root = new Node();
+
+    PropertyPrefixTrie(Map<String, ConfigurationMetadataProperty> properties) {
+        for (Map.Entry<String, ConfigurationMetadataProperty> entry : properties.entrySet()) {
+            insert(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Finds the longest property name that is a prefix of the given name and is followed by a separator.
+     *
+     * @param name the name to match, either raw or canonical
+     * @return the match or null if no property is a prefix of the name
+     */
+    Match longestMatch(String name) {
+        Node node = root;
+        Match best = null;
+        int start = 0;
+        final int len = name.length();
+        while (start < len) {
+            final int end = nextSeparator(name, start);
+            node = node.children.get(CanonicalNames.canonicalize(name.substring(start, end)));
+            if (node == null) {
+                break;
+            }
+            if (node.property != null && end < len) {
+                best = new Match(node.property, end + 1);
+            }
+            start = end + 1;
+        }
+        return best;
+    }
+
+    private void insert(String name, ConfigurationMetadataProperty property) {
+        Node node = root;
+        int start = 0;
+        while (start <= name.length()) {
+            final int end = nextSeparator(name, start);
+            node = node.children.computeIfAbsent(CanonicalNames.canonicalize(name.substring(start, end)), k -> new Node());
+            start = end + 1;
+        }
+        node.property = property;
+    }
+
+    private static int nextSeparator(String name, int from) {
+        for (int i = from; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c == '.' || c == '[') {
+                return i;
+            }
+        }
+        return name.length();
+    }
+
+    /**
+     * Result of a longest prefix match.
+     *
+     * @param property the owning property
+     * @param keyStart the offset in the matched name where the key (or index) part starts
+     */
+    record Match(ConfigurationMetadataProperty property, int keyStart) {
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>(4);
+        private ConfigurationMetadataProperty property;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * IDE wide registry of the configuration metadata of jars, shared among all open projects.
+ * <p>
+ * Jars are identified by path, size and modification time. The properties of a jar are loaded once, by the first project
+ * acquiring it, and kept as an unmodifiable map as long as at least one project references it. Each
+ * {@link #acquire(String, Loader)} must be balanced by a {@link #release(String)}.
+ *
+ * @author Alessandro Falappa
+ */
+final class SharedMetadataRegistry {
+
+    private static final Logger logger = Logger.getLogger(SharedMetadataRegistry.class.getName());
+    // guarded by itself
+    private static final Map<String, Entry> ENTRIES = new HashMap<>();
+
+    // prevent instantiation
+    private SharedMetadataRegistry() {
+    }
+
+    /**
+     * Acquires a reference to the metadata of a jar, loading it if not yet available.
+     *
+     * @param rootId the jar identity
+     * @param loader loads the properties of the jar if not already registered
+     * @return the shared unmodifiable properties of the jar
+     * @throws IOException if loading the properties fails, in which case no reference is acquired
+     */
+    static Map<String, ConfigurationMetadataProperty> acquire(String rootId, Loader loader) throws IOException {
+        Entry entry;
+        synchronized (ENTRIES) {
+            entry = ENTRIES.computeIfAbsent(rootId, k -> new Entry());
+            entry.refCount++;
+        }
+        try {
+            return entry.get(rootId, loader);
+        } catch (IOException | RuntimeException ex) {
+            release(rootId);
+            throw ex;
+        }
+    }
+
+    /**
+     * Releases a reference to the metadata of a jar, dropping it when no more referenced.
+     *
+     * @param rootId the jar identity
+     */
+    static void release(String rootId) {
+        synchronized (ENTRIES) {
+            Entry entry = ENTRIES.get(rootId);
+            if (entry != null && --entry.refCount <= 0) {
+                ENTRIES.remove(rootId);
+                logger.log(FINE, "Released shared configuration metadata of {0}", rootId);
+            }
+        }
+    }
+
+    /**
+     * Tells how many references to the metadata of a jar are currently held.
+     *
+     * @param rootId the jar identity
+     * @return the number of references, zero if the jar is not registered
+     */
+    static int refCount(String rootId) {
+        synchronized (ENTRIES) {
+            Entry entry = ENTRIES.get(rootId);
+            return entry != null ? entry.refCount : 0;
+        }
+    }
+
+    /**
+     * Tells how many jars are currently registered.
+     *
+     * @return the number of registered jars
+     */
+    static int size() {
+        synchronized (ENTRIES) {
+            return ENTRIES.size();
+        }
+    }
+
+    /**
+     * Loads the configuration metadata properties of a jar.
+     */
+    @FunctionalInterface
+    interface Loader {
+
+        Map<String, ConfigurationMetadataProperty> load() throws IOException;
+    }
+
+    private static final class Entry {
+
+        // guarded by the entry, reference count guarded by ENTRIES
+        private Map<String, ConfigurationMetadataProperty> properties;
+        private int refCount;
+
+        // loading happens outside the registry lock so that different jars load concurrently
+        private synchronized Map<String, ConfigurationMetadataProperty> get(String rootId, Loader loader) throws IOException {
+            if (properties == null) {
+                properties = Collections.unmodifiableMap(loader.load());
+                logger.log(FINE, "Registered shared configuration metadata of {0}", rootId);
+            }
+            return properties;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import org.netbeans.api.project.Project;
+import org.netbeans.modules.maven.api.NbMavenProject;
+import org.netbeans.spi.project.ProjectServiceProvider;
+import org.netbeans.spi.project.ui.ProjectOpenedHook;
+
+import com.github.alexfalappa.nbspringboot.projects.service.api.SpringBootService;
+
+/**
+ * Ties the lifecycle of the {@link SpringBootServiceImpl} metadata to the project being open.
+ * <p>
+ * On project open the configuration metadata is loaded in background, on project close the references to the shared jar
+ * metadata held by the service are released.
+ *
+ * @author Alessandro Falappa
+ */
+@ProjectServiceProvider(
+        service = ProjectOpenedHook.class,
+        projectType = {
+            "org-netbeans-modules-maven/" + NbMavenProject.TYPE_JAR,
+            "org-netbeans-modules-maven/" + NbMavenProject.TYPE_WAR
+        }
+)
+public class SpringBootProjectOpenedHook extends ProjectOpenedHook {
+
+    private final Project prj;
+
+    public SpringBootProjectOpenedHook(Project prj) {
+        this.prj = prj;
+    }
+
+    @Override
+    protected void projectOpened() {
+        if (prj.getLookup().lookup(SpringBootService.class) instanceof SpringBootServiceImpl sbs) {
+            sbs.scheduleWarmUp();
+        }
+    }
+
+    @Override
+    protected void projectClosed() {
+        if (prj.getLookup().lookup(SpringBootService.class) instanceof SpringBootServiceImpl sbs) {
+            sbs.releaseMetadata();
+        }
+    }
+
+}
@@ -16,23 +16,38 @@
 package com.github.alexfalappa.nbspringboot.projects.service.impl;
 
 import com.github.alexfalappa.nbspringboot.Utils;
+import com.github.alexfalappa.nbspringboot.diagnostics.MetadataDiagnostics;
+import com.github.alexfalappa.nbspringboot.diagnostics.MetadataStats;
+import com.github.alexfalappa.nbspringboot.projects.service.api.ClassLoaderManager;
 import com.github.alexfalappa.nbspringboot.projects.service.api.HintProvider;
+import com.github.alexfalappa.nbspringboot.projects.service.api.MapPropertyMatch;
 import com.github.alexfalappa.nbspringboot.projects.service.api.SpringBootService;
 import java.beans.PropertyChangeEvent;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
-import java.util.HashMap;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.netbeans.api.java.classpath.ClassPath;
+import org.netbeans.api.progress.ProgressHandle;
 import org.netbeans.api.project.Project;
+import org.netbeans.api.project.ProjectUtils;
 import org.netbeans.modules.maven.NbMavenProjectImpl;
 import org.netbeans.modules.maven.api.NbMavenProject;
 import org.netbeans.spi.project.ProjectServiceProvider;
@@ -40,23 +55,49 @@ import org.openide.filesystems.FileLock;
 import org.openide.filesystems.FileObject;
 import org.openide.filesystems.FileUtil;
 import org.openide.util.Exceptions;
-import org.springframework.boot.bind.RelaxedNames;
+import org.openide.util.RequestProcessor;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
-import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepository;
-import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
-import org.springframework.boot.configurationmetadata.SimpleConfigurationMetadataRepository;
 
 import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.INFO;
 import static java.util.logging.Level.SEVERE;
 import static java.util.logging.Level.WARNING;
-import static java.util.regex.Pattern.compile;
 
 /**
  * Project wide {@link SpringBootService} implementation.
  * <p>
  * It scans the classpath for {@code META-INF/spring-configuration-metadata.json} files, then unmarshals the files into the
- * corresponding {@code ConfigurationMetadata} classes and maintains indexed structures extracted out of it.
+ * corresponding {@code ConfigurationMetadata} classes with a streaming {@link MetadataJsonReader} and maintains indexed
+ * structures extracted out of it.
+ * <p>
+ * Metadata contained in jars is persisted in a {@link MetadataCache} to avoid parsing JSON again on IDE restarts, and kept in
+ * memory once for all open projects by the {@link SharedMetadataRegistry}. References to shared jar metadata are released
+ * when the project is closed.
+ * <p>
+ * Only the compact part of properties needed for validation and name completion is kept in memory, descriptions, default
+ * values and hints are read back on demand (see {@link MetadataDetails}).
+ * <p>
+ * Indexed structures are published as an immutable {@link MetadataSnapshot} through a volatile reference: readers never
+ * lock nor see a partially built snapshot, while initialization and rebuilds are serialized.
+ * <p>
+ * Metadata is warmed up in background as soon as the project is opened: while the initial load is in progress readers
+ * briefly wait for it to finish, then get the partial snapshot published so far (see {@link #isMetadataComplete()}) instead of
+ * starting a second scan.
+ * <p>
+ * The metadata generated by the configuration processor in the project output folder and the additional metadata in project
+ * resources are watched for changes: a changed file is parsed again and spliced into the current snapshot, without a full
+ * rebuild.
+ * <p>
+ * Maven pom changes trigger a debounced rebuild on a background throttled queue, with progress reporting. Rebuilds are
+ * incremental: only classpath roots added since the previous snapshot are loaded, while the contributions of removed roots
+ * are evicted. Classpath roots are loaded in parallel on a bounded fork-join pool and merged in classpath order.
+ * <p>
+ * Metadata of projects not used for a while, or idle when memory runs low, is evicted by the
+ * {@link MetadataEvictionPolicy}: the snapshot is kept only softly reachable and, if not reclaimed in the meantime, restored
+ * on next use by an incremental rebuild, otherwise loaded again from the {@link MetadataCache}.
+ * <p>
+ * Timings, cache effectiveness and heap usage are collected in {@link MetadataStats}, published through
+ * {@link MetadataDiagnostics} while metadata is loaded.
  * <p>
  * Registered for maven projects with jar and war packaging.
  *
@@ -74,21 +115,46 @@ public class SpringBootServiceImpl implements SpringBootService {
 
     private static final Logger logger = Logger.getLogger(SpringBootServiceImpl.class.getName());
     private static final String METADATA_JSON = "META-INF/spring-configuration-metadata.json";
-    private static final Pattern PATTERN_ARRAY_NOTATION = compile("(.+)\\[\\d+\\]");
+    private static final String ADDITIONAL_METADATA_JSON = "META-INF/additional-spring-configuration-metadata.json";
     private static final NoopHintProvider NOOP_HINT_PROVIDER = new NoopHintProvider();
-    private SimpleConfigurationMetadataRepository repo = new SimpleConfigurationMetadataRepository();
-    private final Map<String, ConfigurationMetadataRepository> reposInJars = new HashMap<>();
+    private static final int REFRESH_DELAY_MS = 500;
+    // merges the bursts of file events of a single compilation
+    private static final int LOCAL_RELOAD_DELAY_MS = 100;
+    // maximum time readers wait, all together, for an in progress warm-up before getting partial snapshots
+    private static final int WARMUP_WAIT_MS = 1000;
+    // minimum interval between partial snapshots published during the initial load
+    private static final int PARTIAL_PUBLISH_MS = 250;
+    // throttled queue shared by all projects, interrupting cancelled tasks
+    private static final RequestProcessor RP = new RequestProcessor("Spring Boot metadata refresh", 1, true);
+    // bounded pool loading metadata of classpath roots in parallel, shared by all projects
+    private static final ForkJoinPool PARSE_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final RequestProcessor.Task refreshTask = RP.create(this::backgroundRefresh);
+    private final RequestProcessor.Task localReloadTask = RP.create(this::reloadLocalMetadata);
+    private final LocalMetadataWatcher localWatcher = new LocalMetadataWatcher(this::localMetadataChanged);
+    // project metadata files changed since the last reload
+    private final Set<File> changedLocalFiles = ConcurrentHashMap.newKeySet();
+    // guards initialization and rebuilds of the metadata snapshot
+    private final Object buildLock = new Object();
+    private final Map<String, HintProvider> providerMap = new ConcurrentHashMap<>();
+    // identities of jars referenced in the shared registry, guarded by buildLock
+    private final Set<String> sharedRoots = new HashSet<>();
+    private volatile MetadataSnapshot snapshot = MetadataSnapshot.EMPTY;
+    private volatile boolean initialized = false;
+    private volatile boolean warmingUp = false;
+    // time after which readers stop waiting for the warm-up, 0 until the first reader waits
+    private volatile long warmUpDeadline;
+    // time of the last metadata lookup, used to evict the metadata of inactive projects
+    private volatile long lastAccess = System.currentTimeMillis();
+    // snapshot kept after eviction for a quick rebuild, guarded by buildLock
+    private SoftReference<ParkedSnapshot> parked;
+    private volatile ClassPath cpExec;
+    private volatile String springBootVersion;
     private NbMavenProjectImpl mvnPrj;
-    private String springBootVersion;
-    private ClassPath cpExec;
-    private Map<String, ConfigurationMetadataProperty> cachedProperties;
-    private final Map<String, Boolean> cachedDepsPresence = new HashMap<>();
-    private final Set<String> collectionProperties = new HashSet<>();
-    private final Set<String> mapProperties = new HashSet<>();
-    private final Map<String, HintProvider> providerMap = new HashMap<>();
+    private final MetadataStats stats;
 
     public SpringBootServiceImpl(Project p) {
         final FileObject projectDirectory = p.getProjectDirectory();
+        stats = new MetadataStats(FileUtil.getFileDisplayName(projectDirectory), projectDirectory.getNameExt());
         if (p instanceof NbMavenProjectImpl nbMavenProjectImpl) {
             logger.log(INFO, "Creating Spring Boot service for project {0}", FileUtil.getFileDisplayName(projectDirectory));
             this.mvnPrj = nbMavenProjectImpl;
@@ -104,10 +170,7 @@ public class SpringBootServiceImpl implements SpringBootService {
             this.mvnPrj.getProjectWatcher().addPropertyChangeListener((PropertyChangeEvent evt) -> {
                 if (NbMavenProject.PROP_PROJECT.equals(evt.getPropertyName())) {
                     logger.log(FINE, "Maven pom change ({0})", evt.getPropertyName());
-                    long start = System.currentTimeMillis();
-                    refresh();
-                    long elapsedMs = System.currentTimeMillis() - start;
-                    logger.log(FINE, "Spring Boot service refresh took {0}ms", elapsedMs);
+                    scheduleRefresh();
                 }
             });
         } else {
@@ -117,29 +180,124 @@ public class SpringBootServiceImpl implements SpringBootService {
 
     @Override
     public void refresh() {
-        logger.info("Refreshing Spring Boot service");
-        // re-check maven project is a spring-boot project
-        logger.fine("Checking maven project has a spring boot dependency");
-        springBootVersion = Utils.getSpringBootVersion(mvnPrj).orElse(null);
-        // clear and exit if no spring boot dependency detected
-        if (springBootVersion == null) {
-            reposInJars.clear();
-            collectionProperties.clear();
-            mapProperties.clear();
-            // TODO delete nbactions.xml file from project dir ?
+        refresh(null);
+    }
+
+    /**
+     * Schedules a refresh of the service in background.
+     * <p>
+     * Refresh requests arriving within a short delay are merged into a single rebuild; a rebuild still in progress when a
+     * new request arrives is cancelled as stale.
+     */
+    void scheduleRefresh() {
+        // interrupts a running stale rebuild or drops a pending one
+        refreshTask.cancel();
+        refreshTask.schedule(REFRESH_DELAY_MS);
+    }
+
+    /**
+     * Schedules the initial load of configuration metadata in background.
+     * <p>
+     * Called when the project is opened, so that the first completion or highlighting does not pay for the classpath scan.
+     */
+    void scheduleWarmUp() {
+        if (mvnPrj == null || springBootVersion == null || initialized) {
             return;
         }
-        cachedDepsPresence.clear();
-        if (cpExec == null) {
-            init();
-        } else {
-            // build configuration metadata repository
-            updateConfigRepo();
+        logger.log(FINE, "Scheduling configuration metadata warm-up of project {0}",
+                FileUtil.getFileDisplayName(mvnPrj.getProjectDirectory()));
+        warmUpDeadline = 0;
+        warmingUp = true;
+        refreshTask.schedule(0);
+    }
+
+    // invoked on project metadata files changes
+    private void localMetadataChanged(File file) {
+        changedLocalFiles.add(file);
+        localReloadTask.schedule(LOCAL_RELOAD_DELAY_MS);
+    }
+
+    // body of the local reload task, splices changed project metadata files into the current snapshot
+    private void reloadLocalMetadata() {
+        final File additional = additionalMetadataFile();
+        for (Iterator<File> it = changedLocalFiles.iterator(); it.hasNext();) {
+            final File file = it.next();
+            it.remove();
+            long start = System.currentTimeMillis();
+            final String rootId = file.getAbsolutePath();
+            Map<String, ConfigurationMetadataProperty> props = null;
+            final FileObject fo = FileUtil.toFileObject(file);
+            if (fo != null && fo.isData()) {
+                try {
+                    props = loadStandaloneMetadata(fo, rootId);
+                    stats.recordRootLoad(rootId, System.currentTimeMillis() - start, props.size());
+                } catch (IOException ex) {
+                    // possibly a file still being written, a later change event will reload it
+                    logger.log(WARNING, "Could not reload configuration metadata from {0}: {1}",
+                            new Object[]{file, ex.getMessage()});
+                    continue;
+                }
+            }
+            synchronized (buildLock) {
+                // the initialization reads project metadata files anyway
+                if (!initialized) {
+                    continue;
+                }
+                // generated metadata comes first on the classpath, additional metadata has the lowest precedence
+                snapshot = snapshot.splice(rootId, props, !file.equals(additional));
+            }
+            logger.log(FINE, "Reloaded configuration metadata from {0} in {1}ms",
+                    new Object[]{file, System.currentTimeMillis() - start});
+        }
+    }
+
+    // body of the background refresh task
+    private void backgroundRefresh() {
+        final String prjName = ProjectUtils.getInformation(mvnPrj).getDisplayName();
+        ProgressHandle handle = ProgressHandle.createHandle(String.format("%s Spring Boot metadata of %s",
+                initialized ? "Refreshing" : "Loading", prjName), refreshTask::cancel);
+        handle.start();
+        long start = System.currentTimeMillis();
+        try {
+            refresh(handle);
+        } finally {
+            warmingUp = false;
+            handle.finish();
+        }
+        long elapsedMs = System.currentTimeMillis() - start;
+        logger.log(FINE, "Spring Boot service refresh took {0}ms", elapsedMs);
+    }
+
+    private void refresh(ProgressHandle handle) {
+        logger.info("Refreshing Spring Boot service");
+        synchronized (buildLock) {
+            // re-check maven project is a spring-boot project
+            logger.fine("Checking maven project has a spring boot dependency");
+            springBootVersion = Utils.getSpringBootVersion(mvnPrj).orElse(null);
+            // clear and exit if no spring boot dependency detected
+            if (springBootVersion == null) {
+                releaseSharedRoots(Set.of());
+                snapshot = MetadataSnapshot.EMPTY;
+                // TODO delete nbactions.xml file from project dir ?
+                return;
+            }
+            if (!initialized) {
+                init(handle);
+            } else {
+                // build configuration metadata repository
+                updateConfigRepo(handle);
+            }
         }
         // adjust the nbactions.xml file depending on boot version
         adjustNbActions();
     }
 
+    @Override
+    public boolean isMetadataComplete() {
+        // without a warm-up in progress readers load the whole metadata synchronously
+        return initialized || !warmingUp;
+    }
+
     @Override
     public ClassPath getManagedClassPath() {
         return cpExec;
@@ -147,75 +305,63 @@ public class SpringBootServiceImpl implements SpringBootService {
 
     @Override
     public Set<String> getPropertyNames() {
-        if (cpExec == null) {
-            init();
-        }
-        return cachedProperties.keySet();
+        return currentSnapshot().getProperties().keySet();
     }
 
     @Override
     public Set<String> getCollectionPropertyNames() {
-        return collectionProperties;
+        return snapshot.getCollectionProperties();
     }
 
     @Override
     public Set<String> getMapPropertyNames() {
-        return mapProperties;
+        return snapshot.getMapProperties();
     }
 
     @Override
     public HintProvider getHintProvider(String name) {
+        // hint providers are dropped on eviction
+        currentSnapshot();
         return providerMap.getOrDefault(name, NOOP_HINT_PROVIDER);
     }
 
+    @Override
+    public void recordCompletion(long nanos, boolean partial) {
+        stats.recordCompletion(nanos, partial);
+    }
+
     @Override
     public ConfigurationMetadataProperty getPropertyMetadata(String propertyName) {
-        if (cpExec == null) {
-            init();
-        }
-        if (cachedProperties != null) {
-            // generate and try relaxed variants
-            for (String relaxedName : new RelaxedNames(propertyName)) {
-                if (cachedProperties.containsKey(relaxedName)) {
-                    return cachedProperties.get(relaxedName);
-                } else {
-                    // try to interpret array notation (strip '[index]' from pName)
-                    Matcher mArrNot = PATTERN_ARRAY_NOTATION.matcher(relaxedName);
-                    if (mArrNot.matches()) {
-                        return cachedProperties.get(mArrNot.group(1));
-                    } else {
-                        // try to interpret map notation (see if pName starts with a set of known map props)
-                        for (String mapPropertyName : getMapPropertyNames()) {
-                            if (relaxedName.startsWith(mapPropertyName)) {
-                                return cachedProperties.get(mapPropertyName);
-                            }
-                        }
-                    }
-                }
-            }
+        final long start = System.nanoTime();
+        // a single hash probe on the canonical form of the name covers all relaxed variants
+        final ConfigurationMetadataProperty ret = currentSnapshot().getByCanonicalName(CanonicalNames.canonicalize(propertyName));
+        stats.recordLookup(System.nanoTime() - start);
+        return ret;
+    }
+
+    @Override
+    public MapPropertyMatch matchMapProperty(String propertyName) {
+        final PropertyPrefixTrie.Match match = currentSnapshot().matchMapProperty(propertyName);
+        if (match == null) {
+            return null;
         }
-        return null;
+        return new MapPropertyMatch(match.property(), propertyName.substring(match.keyStart()), match.keyStart());
     }
 
     @Override
     public List<ConfigurationMetadataProperty> queryPropertyMetadata(String filter) {
-        if (cpExec == null) {
-            init();
-        }
-        return (cachedProperties != null)?
-            getPropertyNames().stream()
-                .filter(propName -> (filter == null || propName.contains(filter)))
-                .map(cachedProperties::get)
-                .collect(Collectors.toList()):
-            List.of();
+        return currentSnapshot().getNameIndex().containing(filter);
+    }
+
+    @Override
+    public List<ConfigurationMetadataProperty> queryPropertyMetadataByPrefix(String prefix) {
+        return currentSnapshot().getNameIndex().byPrefix(prefix);
     }
 
     @Override
     public boolean hasPomDependency(String artifactId) {
-        if (!cachedDepsPresence.containsKey(artifactId)) {
-            cachedDepsPresence.put(artifactId, Utils.dependencyArtifactIdContains(mvnPrj.getProjectWatcher(), artifactId));
-        }
-        return cachedDepsPresence.get(artifactId);
+        // answered by the dependency index of the current maven model
+        return Utils.dependencyArtifactIdContains(mvnPrj.getProjectWatcher(), artifactId);
     }
 
     @Override
@@ -228,65 +374,425 @@ public class SpringBootServiceImpl implements SpringBootService {
         return isBoot1() ? "run" : "spring-boot.run";
     }
 
-    private void init() {
-        // set up a reference to the execute classpath object
-        cpExec = Utils.execClasspathForProj(mvnPrj);
+    /**
+     * Releases the configuration metadata held by the service, which will be lazily initialized again on next use.
+     * <p>
+     * Called when the project is closed.
+     */
+    void releaseMetadata() {
+        if (mvnPrj == null) {
+            return;
+        }
+        refreshTask.cancel();
+        warmingUp = false;
+        localWatcher.stop();
+        localReloadTask.cancel();
+        changedLocalFiles.clear();
+        synchronized (buildLock) {
+            releaseSharedRoots(Set.of());
+            snapshot = MetadataSnapshot.EMPTY;
+            initialized = false;
+            parked = null;
+        }
         if (cpExec != null) {
+            // close the class loader used for completion and highlighting
+            ClassLoaderManager.release(cpExec);
+        }
+        MetadataEvictionPolicy.unregister(this);
+        MetadataDiagnostics.unregister(stats);
+        logger.log(FINE, "Released configuration metadata of project {0}", FileUtil.getFileDisplayName(mvnPrj.getProjectDirectory()));
+    }
+
+    /**
+     * Gets the time the configuration metadata has been last used.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    /**
+     * Evicts the configuration metadata held by the service if not used since the given time.
+     * <p>
+     * References to shared jar metadata are released and the snapshot is kept only softly reachable, to be restored on next
+     * use if not reclaimed by the garbage collector in the meantime.
+     *
+     * @param idleSince the time in milliseconds since the epoch
+     * @return true if metadata has been evicted
+     */
+    boolean evictIfIdleSince(long idleSince) {
+        // never compete with a load or rebuild in progress
+        if (!initialized || lastAccess >= idleSince || warmingUp) {
+            return false;
+        }
+        synchronized (buildLock) {
+            if (!initialized || lastAccess >= idleSince) {
+                return false;
+            }
+            parked = new SoftReference<>(new ParkedSnapshot(snapshot, Set.copyOf(sharedRoots)));
+            initialized = false;
+            releaseSharedRoots(Set.of());
+            snapshot = MetadataSnapshot.EMPTY;
+            providerMap.clear();
+        }
+        localWatcher.stop();
+        localReloadTask.cancel();
+        changedLocalFiles.clear();
+        MetadataEvictionPolicy.unregister(this);
+        stats.recordEviction();
+        logger.log(FINE, "Evicted configuration metadata of idle project {0}", FileUtil.getFileDisplayName(mvnPrj.getProjectDirectory()));
+        return true;
+    }
+
+    // Get the current snapshot, lazily initializing the service (readers of an initialized service never block)
+    private MetadataSnapshot currentSnapshot() {
+        lastAccess = System.currentTimeMillis();
+        if (!initialized && warmingUp) {
+            // give the background warm-up a chance to finish, then make do with what has been loaded so far
+            final long now = System.currentTimeMillis();
+            long deadline = warmUpDeadline;
+            if (deadline == 0) {
+                // the first reader starts the clock, a race between readers only shifts it slightly
+                deadline = now + WARMUP_WAIT_MS;
+                warmUpDeadline = deadline;
+            }
+            if (deadline > now) {
+                try {
+                    refreshTask.waitFinished(deadline - now);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (!initialized && warmingUp) {
+                logger.fine("Configuration metadata warm-up in progress, returning partial snapshot");
+                return snapshot;
+            }
+        }
+        if (!initialized) {
+            synchronized (buildLock) {
+                if (!initialized) {
+                    init(null);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    // must be called holding buildLock
+    private void init(ProgressHandle handle) {
+        // set up a reference to the execute classpath object
+        final ClassPath cp = Utils.execClasspathForProj(mvnPrj);
+        if (cp != null) {
+            cpExec = cp;
             // populate hint providers map
             FileObject resourcesFolder = Utils.resourcesFolderForProj(mvnPrj);
             providerMap.put("logger-name", new LoggerNameHintProvider(resourcesFolder));
-            providerMap.put("class-reference", new ClassReferenceHintProvider(mvnPrj.getProjectDirectory(), cpExec));
-            providerMap.put("handle-as", new HandleAsHintProvider(resourcesFolder, cpExec));
+            providerMap.put("class-reference", new ClassReferenceHintProvider(mvnPrj.getProjectDirectory(), cp));
+            providerMap.put("handle-as", new HandleAsHintProvider(resourcesFolder, cp));
+            // hot reload metadata of the project itself
+            localWatcher.watch(localMetadataFiles());
+            stats.setProjectName(ProjectUtils.getInformation(mvnPrj).getDisplayName());
+            MetadataDiagnostics.register(stats);
+            // start from the snapshot parked on eviction, if still available
+            restoreParked();
             // build configuration properties maps
-            updateConfigRepo();
+            initialized = updateConfigRepo(handle);
+            if (initialized) {
+                MetadataEvictionPolicy.register(this);
+            }
         }
     }
 
-    // Update internal configuration metadata repository
-    private void updateConfigRepo() {
+    // Restore the snapshot parked on eviction if not reclaimed, acquiring again its shared jar metadata,
+    // must be called holding buildLock
+    private void restoreParked() {
+        final ParkedSnapshot restored = parked != null ? parked.get() : null;
+        parked = null;
+        if (restored == null) {
+            return;
+        }
+        LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> contributions = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, ConfigurationMetadataProperty>> entry : restored.snapshot().getContributions().entrySet()) {
+            final String rootId = entry.getKey();
+            if (restored.sharedRoots().contains(rootId)) {
+                try {
+                    // other projects may have kept the jar registered meanwhile, then the registered metadata is used
+                    contributions.put(rootId, SharedMetadataRegistry.acquire(rootId, entry::getValue));
+                    sharedRoots.add(rootId);
+                } catch (IOException ex) {
+                    // cannot happen with parked metadata, the jar will be loaded again
+                    logger.log(FINE, "Could not restore metadata of {0}", rootId);
+                }
+            } else {
+                contributions.put(rootId, entry.getValue());
+            }
+        }
+        snapshot = restored.snapshot().update(contributions);
+        logger.log(FINE, "Restored parked configuration metadata of {0} classpath roots", contributions.size());
+    }
+
+    // Update internal configuration metadata repository, must be called holding buildLock
+    // returns false if the update has been cancelled
+    private boolean updateConfigRepo(ProgressHandle handle) {
         logger.fine("Updating config metadata repo");
-        repo = new SimpleConfigurationMetadataRepository();
-        final List<FileObject> cfgMetaFiles = cpExec.findAllResources(METADATA_JSON);
+        final long start = System.currentTimeMillis();
+        final MetadataSnapshot current = snapshot;
+        final Map<String, Map<String, ConfigurationMetadataProperty>> currContributions = current.getContributions();
+        LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> contributions = new LinkedHashMap<>();
+        final List<FileObject> cfgMetaFiles = new ArrayList<>(cpExec.findAllResources(METADATA_JSON));
+        // additional metadata in project resources comes last, as a standalone file
+        final File additional = additionalMetadataFile();
+        final FileObject additionalFo = additional != null ? FileUtil.toFileObject(additional) : null;
+        if (additionalFo != null && additionalFo.isData()) {
+            cfgMetaFiles.add(additionalFo);
+        }
+        if (handle != null) {
+            handle.switchToDeterminate(cfgMetaFiles.size());
+        }
+        Set<String> jarRoots = new HashSet<>();
+        // one loading task per classpath root not already in the snapshot
+        Map<String, ForkJoinTask<Map<String, ConfigurationMetadataProperty>>> tasks = new LinkedHashMap<>();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final AtomicInteger done = new AtomicInteger();
         for (FileObject fo : cfgMetaFiles) {
-            try {
-                ConfigurationMetadataRepositoryJsonBuilder builder = ConfigurationMetadataRepositoryJsonBuilder.create();
-                ConfigurationMetadataRepository currRepo;
-                FileObject archiveFo = FileUtil.getArchiveFile(fo);
-                if (archiveFo != null) {
-                    // parse and cache configuration metadata from JSON file in jar
-                    String archivePath = archiveFo.getPath();
-                    if (!reposInJars.containsKey(archivePath)) {
-                        logger.log(INFO, "Unmarshalling configuration metadata from {0}", FileUtil.getFileDisplayName(fo));
-                        ConfigurationMetadataRepository jarRepo = builder.withJsonResource(fo.getInputStream()).build();
-                        reposInJars.put(archivePath, jarRepo);
-                    }
-                    currRepo = reposInJars.get(archivePath);
+            FileObject archiveFo = FileUtil.getArchiveFile(fo);
+            if (archiveFo != null) {
+                final File archive = FileUtil.toFile(archiveFo);
+                final String rootId = archiveRootId(archiveFo, archive);
+                if (!jarRoots.add(rootId)) {
+                    continue;
+                }
+                // reuse metadata of jars already in the snapshot, otherwise get it from the shared registry
+                final Map<String, ConfigurationMetadataProperty> jarProps = currContributions.get(rootId);
+                contributions.put(rootId, jarProps);
+                if (jarProps != null) {
+                    progress(handle, fo, done);
                 } else {
-                    // parse configuration metadata from standalone JSON file (usually produced by spring configuration processor)
-                    logger.log(INFO, "Unmarshalling configuration metadata from {0}", FileUtil.getFileDisplayName(fo));
-                    currRepo = builder.withJsonResource(fo.getInputStream()).build();
+                    tasks.put(rootId, PARSE_POOL.submit(() -> {
+                        try {
+                            if (cancelled.get()) {
+                                return null;
+                            }
+                            final long loadStart = System.currentTimeMillis();
+                            final AtomicBoolean loaded = new AtomicBoolean();
+                            Map<String, ConfigurationMetadataProperty> props = SharedMetadataRegistry.acquire(rootId, () -> {
+                                loaded.set(true);
+                                return loadArchiveMetadata(fo, archive, stats);
+                            });
+                            // a reference acquired after cancellation is not going to be used
+                            if (cancelled.get()) {
+                                SharedMetadataRegistry.release(rootId);
+                                return null;
+                            }
+                            if (!loaded.get()) {
+                                stats.recordRegistryHit();
+                            }
+                            stats.recordRootLoad(archiveFo.getNameExt(), System.currentTimeMillis() - loadStart, props.size());
+                            return props;
+                        } finally {
+                            progress(handle, fo, done);
+                        }
+                    }));
                 }
-                repo.include(currRepo);
-            } catch (Exception ex) {
-                Exceptions.printStackTrace(ex);
+            } else {
+                // parse configuration metadata from standalone JSON file (usually produced by spring configuration processor)
+                final String rootId = standaloneRootId(fo);
+                contributions.put(rootId, null);
+                tasks.put(rootId, PARSE_POOL.submit(() -> {
+                    try {
+                        if (cancelled.get()) {
+                            return null;
+                        }
+                        final long loadStart = System.currentTimeMillis();
+                        final Map<String, ConfigurationMetadataProperty> props = loadStandaloneMetadata(fo, rootId);
+                        stats.recordRootLoad(rootId, System.currentTimeMillis() - loadStart, props.size());
+                        return props;
+                    } finally {
+                        progress(handle, fo, done);
+                    }
+                }));
             }
         }
-        // update cached values
-        cachedProperties = repo.getAllProperties();
-        // extract collection/map properties names based on heuristics
-        for (Map.Entry<String, ConfigurationMetadataProperty> entry : cachedProperties.entrySet()) {
-            final String type = entry.getValue().getType();
-            if (type != null) {
-                final String key = entry.getKey();
-                if (type.startsWith("java.util.Map<")) {
-                    mapProperties.add(key);
+        // merge results in classpath order, so that duplicate properties precedence does not depend on timing
+        List<String> acquired = new ArrayList<>();
+        long lastPublish = System.currentTimeMillis();
+        for (Map.Entry<String, ForkJoinTask<Map<String, ConfigurationMetadataProperty>>> entry : tasks.entrySet()) {
+            final ForkJoinTask<Map<String, ConfigurationMetadataProperty>> task = entry.getValue();
+            Map<String, ConfigurationMetadataProperty> props = null;
+            if (cancelled.get()) {
+                // still wait for running tasks to get hold of the references they acquired
+                props = joinQuietly(task);
+            } else {
+                try {
+                    props = task.get();
+                } catch (InterruptedException ex) {
+                    // abort a stale rebuild keeping the currently published snapshot
+                    cancelled.set(true);
+                    Thread.currentThread().interrupt();
+                    props = joinQuietly(task);
+                } catch (ExecutionException ex) {
+                    Exceptions.printStackTrace(ex.getCause());
                 }
-                if (type.startsWith("java.util.List<")
-                        || type.startsWith("java.util.Set<")
-                        || type.startsWith("java.util.Collection<")) {
-                    collectionProperties.add(key);
+            }
+            if (props != null) {
+                contributions.put(entry.getKey(), props);
+                if (jarRoots.contains(entry.getKey())) {
+                    acquired.add(entry.getKey());
                 }
             }
+            // during the initial load periodically publish what has been merged so far to readers not willing to wait
+            if (!initialized && !cancelled.get() && System.currentTimeMillis() - lastPublish >= PARTIAL_PUBLISH_MS) {
+                snapshot = snapshot.update(mergedSoFar(contributions));
+                lastPublish = System.currentTimeMillis();
+            }
+        }
+        if (cancelled.get() || Thread.currentThread().isInterrupted()) {
+            logger.fine("Config metadata repo update cancelled");
+            // partial snapshots may refer to the released metadata
+            snapshot = current;
+            acquired.forEach(SharedMetadataRegistry::release);
+            return false;
+        }
+        // drop roots whose metadata could not be loaded
+        contributions.values().removeIf(Objects::isNull);
+        logger.log(FINE, "Acquired configuration metadata of {0} out of {1} classpath roots",
+                new Object[]{acquired.size(), cfgMetaFiles.size()});
+        // atomically publish the incrementally updated snapshot, starting from the last partial one if any
+        snapshot = snapshot.update(contributions);
+        sharedRoots.addAll(acquired);
+        releaseSharedRoots(jarRoots);
+        final MetadataSnapshot updated = snapshot;
+        final long heapBytes = updated.estimateHeapBytes(true);
+        logger.log(FINE, "Configuration metadata of {0} properties takes ~{1} KB, ~{2} KB without string interning",
+                new Object[]{updated.getProperties().size(), heapBytes / 1024, updated.estimateHeapBytes(false) / 1024});
+        stats.recordRefresh(System.currentTimeMillis() - start, updated.getProperties().size(), heapBytes);
+        return true;
+    }
+
+    // Copy of the contributions of classpath roots loaded so far, in classpath order
+    private static LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> mergedSoFar(
+            LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> contributions) {
+        LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> ret = new LinkedHashMap<>();
+        contributions.forEach((root, props) -> {
+            if (props != null) {
+                ret.put(root, props);
+            }
+        });
+        return ret;
+    }
+
+    // Wait for a loading task ignoring interruptions and failures
+    private static Map<String, ConfigurationMetadataProperty> joinQuietly(
+            ForkJoinTask<Map<String, ConfigurationMetadataProperty>> task) {
+        try {
+            return task.join();
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static void progress(ProgressHandle handle, FileObject fo, AtomicInteger done) {
+        final int units = done.incrementAndGet();
+        if (handle != null) {
+            handle.progress(fo.getPath(), units);
+        }
+    }
+
+    // Release the references to shared jar metadata no longer on the classpath, must be called holding buildLock
+    private void releaseSharedRoots(Set<String> retained) {
+        for (Iterator<String> it = sharedRoots.iterator(); it.hasNext();) {
+            final String rootId = it.next();
+            if (!retained.contains(rootId)) {
+                SharedMetadataRegistry.release(rootId);
+                it.remove();
+            }
+        }
+    }
+
+    // Identify a jar by path, size and modification time so that a rebuilt jar counts as a different root
+    private static String archiveRootId(FileObject archiveFo, File archive) {
+        if (archive != null) {
+            return String.format("%s@%d:%d", archive.getAbsolutePath(), archive.length(), archive.lastModified());
+        }
+        return archiveFo.getPath();
+    }
+
+    // Identify a standalone metadata file by absolute path, as reported to the local metadata watcher
+    private static String standaloneRootId(FileObject fo) {
+        final File file = FileUtil.toFile(fo);
+        return file != null ? file.getAbsolutePath() : fo.getPath();
+    }
+
+    // Project files whose metadata is hot reloaded: the configuration processor output and the additional metadata
+    private List<File> localMetadataFiles() {
+        List<File> ret = new ArrayList<>();
+        final File outputDir = mvnPrj.getProjectWatcher().getOutputDirectory(false);
+        if (outputDir != null) {
+            ret.add(new File(outputDir, METADATA_JSON));
+        }
+        final File additional = additionalMetadataFile();
+        if (additional != null) {
+            ret.add(additional);
+        }
+        return ret;
+    }
+
+    private File additionalMetadataFile() {
+        final FileObject resourcesFolder = Utils.resourcesFolderForProj(mvnPrj);
+        final File resourcesDir = resourcesFolder != null ? FileUtil.toFile(resourcesFolder) : null;
+        return resourcesDir != null ? FileUtil.normalizeFile(new File(resourcesDir, ADDITIONAL_METADATA_JSON)) : null;
+    }
+
+    // Parse configuration metadata of a standalone JSON file, details are parsed again on demand
+    private static Map<String, ConfigurationMetadataProperty> loadStandaloneMetadata(FileObject fo, String rootId)
+            throws IOException {
+        return MetadataDetails.split(rootId, parseMetadata(fo), (id, position) -> parseMetadata(fo).get(id));
+    }
+
+    // Get configuration metadata of a jar from the persistent cache or parse and cache it, details are read back on demand
+    private static Map<String, ConfigurationMetadataProperty> loadArchiveMetadata(FileObject fo, File archive,
+            MetadataStats stats) throws IOException {
+        final String displayName = FileUtil.getFileDisplayName(fo);
+        final MetadataDetails details = new MetadataDetails(displayName,
+                (id, position) -> readArchiveDetails(fo, archive, id, position));
+        if (archive != null) {
+            final Map<String, ConfigurationMetadataProperty> cached = MetadataCache.load(archive, details);
+            if (cached != null) {
+                stats.recordCacheHit();
+                logger.log(FINE, "Configuration metadata of {0} loaded from cache", archive);
+                return cached;
+            }
+            stats.recordCacheMiss();
+        }
+        final Map<String, ConfigurationMetadataProperty> props = parseMetadata(fo);
+        if (archive != null) {
+            // reload from the cache just written to keep the position of details, dropping the parsed properties
+            MetadataCache.store(archive, props);
+            final Map<String, ConfigurationMetadataProperty> cached = MetadataCache.load(archive, details);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return MetadataDetails.split(displayName, props, (id, position) -> parseMetadata(fo).get(id));
+    }
+
+    // Read the details of a jar property from the persistent cache, parsing the metadata again if the cache entry is gone
+    private static ConfigurationMetadataProperty readArchiveDetails(FileObject fo, File archive, String id, long position)
+            throws IOException {
+        if (archive != null && position >= 0) {
+            final ConfigurationMetadataProperty cached = MetadataCache.loadDetails(archive, id, position);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return parseMetadata(fo).get(id);
+    }
+
+    private static Map<String, ConfigurationMetadataProperty> parseMetadata(FileObject fo) throws IOException {
+        logger.log(INFO, "Unmarshalling configuration metadata from {0}", FileUtil.getFileDisplayName(fo));
+        try (InputStream is = fo.getInputStream()) {
+            return MetadataJsonReader.read(is);
         }
     }
 
@@ -344,4 +850,7 @@ public class SpringBootServiceImpl implements SpringBootService {
         }
     }
 
+    // Snapshot of an evicted service with the shared jar metadata it referenced
+    private record ParkedSnapshot(MetadataSnapshot snapshot, Set<String> sharedRoots) {
+    }
 }
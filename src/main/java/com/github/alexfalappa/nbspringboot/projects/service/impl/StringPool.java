@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * IDE wide pool deduplicating the strings of configuration metadata.
+ * <p>
+ * Types, names, descriptions and hint values repeat a lot across the metadata of different jars. Strings are interned in a
+ * weak pool so that pooled strings no longer referenced by any metadata can be garbage collected. The pool is striped to
+ * limit contention when metadata is loaded in parallel.
+ *
+ * @author Alessandro Falappa
+ */
+final class StringPool {
+
+    private static final int STRIPES = 16;
+    private static final Map<String, WeakReference<String>>[] POOLS = createPools();
+
+    // prevent instantiation
+    private StringPool() {
+    }
+
+    /**
+     * Returns the pooled instance of a string.
+     *
+     * @param str the string, may be null
+     * @return a string equal to the given one, shared with other callers
+     */
+    static String intern(String str) {
+        if (str == null) {
+            return null;
+        }
+        final Map<String, WeakReference<String>> pool = POOLS[(str.hashCode() & 0x7fffffff) % STRIPES];
+        synchronized (pool) {
+            final WeakReference<String> ref = pool.get(str);
+            final String pooled = ref != null ? ref.get() : null;
+            if (pooled != null) {
+                return pooled;
+            }
+            pool.put(str, new WeakReference<>(str));
+            return str;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, WeakReference<String>>[] createPools() {
+        Map<String, WeakReference<String>>[] ret = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            ret[i] = new WeakHashMap<>();
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable vocabulary of names offered as property values, searchable case insensitively.
+ * <p>
+ * Names are kept in arrays sorted by their lowercase form, so that names starting with a filter form a contiguous range
+ * found by binary search. Names containing a filter elsewhere are found through a trigram index of the lowercase forms,
+ * falling back to a scan for filters shorter than three characters.
+ *
+ * @author Alessandro Falappa
+ */
+public final class ValueVocabulary {
+
+    private final String[] names;
+    private final String[] lowercase;
+    // lowercase trigram to ascending positions in the arrays
+    private final Map<String, int[]> trigrams = new HashMap<>();
+
+    private ValueVocabulary(String[] names, String[] lowercase) {
+        this.names = names;
+        this.lowercase = lowercase;
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < lowercase.length; i++) {
+            final String lower = lowercase[i];
+            for (int j = 0; j + 3 <= lower.length(); j++) {
+                final List<Integer> positions = postings.computeIfAbsent(lower.substring(j, j + 3), k -> new ArrayList<>());
+                if (positions.isEmpty() || positions.get(positions.size() - 1) != i) {
+                    positions.add(i);
+                }
+            }
+        }
+        postings.forEach((trigram, positions) -> trigrams.put(trigram,
+                positions.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Builds a vocabulary.
+     *
+     * @param names the names, duplicates are kept
+     * @return the vocabulary
+     */
+    public static ValueVocabulary of(Collection<String> names) {
+        final String[] sorted = names.stream()
+                .sorted(Comparator.comparing((String name) -> name.toLowerCase()).thenComparing(Comparator.naturalOrder()))
+                .toArray(String[]::new);
+        final String[] lower = new String[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            lower[i] = sorted[i].toLowerCase();
+        }
+        return new ValueVocabulary(sorted, lower);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Gets a name as given when building the vocabulary.
+     *
+     * @param index the position of the name, in lowercase order
+     * @return the name
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the lowercase form of a name.
+     *
+     * @param index the position of the name, in lowercase order
+     * @return the lowercase name
+     */
+    public String lowercase(int index) {
+        return lowercase[index];
+    }
+
+    /**
+     * Finds the names starting with a prefix, case insensitively.
+     *
+     * @param prefix the prefix
+     * @return the start (inclusive) and end (exclusive) positions of the matching names
+     */
+    public int[] prefixRange(String prefix) {
+        final String lower = prefix.toLowerCase();
+        final int from = lowerBound(lower);
+        int to = from;
+        while (to < lowercase.length && lowercase[to].startsWith(lower)) {
+            to++;
+        }
+        return new int[]{from, to};
+    }
+
+    /**
+     * Visits the names containing a filter, case insensitively.
+     * <p>
+     * Names starting with the filter are visited first, then the others, each group in lowercase order.
+     *
+     * @param filter the filter, an empty filter matches all names
+     * @param visitor receives the position of each matching name and tells whether to go on
+     */
+    public void forEachContaining(String filter, IntPredicate visitor) {
+        final String lower = filter.toLowerCase();
+        final int[] range = prefixRange(lower);
+        for (int i = range[0]; i < range[1]; i++) {
+            if (!visitor.test(i)) {
+                return;
+            }
+        }
+        if (lower.isEmpty()) {
+            return;
+        }
+        final int[] candidates = candidates(lower);
+        if (candidates == null) {
+            for (int i = 0; i < lowercase.length; i++) {
+                if ((i < range[0] || i >= range[1]) && lowercase[i].contains(lower) && !visitor.test(i)) {
+                    return;
+                }
+            }
+        } else {
+            for (int i : candidates) {
+                if ((i < range[0] || i >= range[1]) && lowercase[i].contains(lower) && !visitor.test(i)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // positions possibly containing the filter: the shortest posting list of its trigrams, null to scan all names
+    private int[] candidates(String lower) {
+        if (lower.length() < 3) {
+            return null;
+        }
+        int[] ret = null;
+        for (int j = 0; j + 3 <= lower.length(); j++) {
+            final int[] positions = trigrams.get(lower.substring(j, j + 3));
+            if (positions == null) {
+                return new int[0];
+            }
+            if (ret == null || positions.length < ret.length) {
+                ret = positions;
+            }
+        }
+        return ret;
+    }
+
+    // position of the first lowercase name not less than the key
+    private int lowerBound(String key) {
+        final int pos = Arrays.binarySearch(lowercase, key);
+        if (pos < 0) {
+            return -pos - 1;
+        }
+        int ret = pos;
+        while (ret > 0 && lowercase[ret - 1].equals(key)) {
+            ret--;
+        }
+        return ret;
+    }
+}
@@ -290,7 +290,7 @@ public class UtilsTest {
 
     @Test
     public void testCompleteEnum() {
-        when(cp.getClassLoader(true)).thenReturn(getClass().getClassLoader());
+        stubTestClassesEntry();
         final String filter = UtilEnum.THE_OTHER.name().toLowerCase();
         doAnswer(invocation -> {
             ValueHint vh = invocation.getArgument(0);
@@ -306,7 +306,7 @@ public class UtilsTest {
 
     @Test
     public void testCompleteEnumClassNotFound() {
-        when(cp.getClassLoader(true)).thenReturn(getClass().getClassLoader());
+        stubTestClassesEntry();
         final String filter = UtilEnum.THE_OTHER.name().toLowerCase();
 
         Utils.completeEnum(cp, "this_class_does_not_exist", filter, consumer);
@@ -314,6 +314,13 @@ public class UtilsTest {
         verify(consumer, never()).accept(any(ValueHint.class));
     }
 
+    // make the test classes folder the only classpath entry
+    private void stubTestClassesEntry() {
+        final ClassPath.Entry entry = mock(ClassPath.Entry.class);
+        when(entry.getURL()).thenReturn(getClass().getProtectionDomain().getCodeSource().getLocation());
+        when(cp.entries()).thenReturn(List.of(entry));
+    }
+
     @Test
     public void testCfgPropDetailsHtmlEmpty() {
         ConfigurationMetadataProperty cmdp = createConfigurationMetadataProperty();
@@ -2,10 +2,13 @@ package com.github.alexfalappa.nbspringboot.cfgprops.completion;
 
 import com.github.alexfalappa.nbspringboot.TestContextGlobalProvider;
 import com.github.alexfalappa.nbspringboot.projects.service.api.SpringBootService;
+import javax.swing.text.BadLocationException;
 import javax.swing.text.JTextComponent;
+import javax.swing.text.PlainDocument;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -124,4 +127,27 @@ public class CfgPropsCompletionProviderTest {
         assertEquals(0, result);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "'server.', '.', true",
+        "'  server.servlet.', '.', true",
+        "'a=1\\nserver.port=', '=', true",
+        "'.', '.', false",
+        "'# server.', '.', false",
+        "'server.address=127.0.', '.', false",
+        "'server.port:8080.', '.', false",
+        "'key=a=', '=', false"
+    })
+    public void testGetAutoQueryTypesOnSeparator(String text, String typed, boolean expected) throws BadLocationException {
+        final PlainDocument document = new PlainDocument();
+        document.insertString(0, text.replace("\\n", "\n"), null);
+        when(jtc.getDocument()).thenReturn(document);
+        when(jtc.getCaretPosition()).thenReturn(document.getLength());
+        final CfgPropsCompletionProvider instance = new CfgPropsCompletionProvider();
+
+        final int result = instance.getAutoQueryTypes(jtc, typed);
+
+        assertEquals(expected ? CompletionProvider.COMPLETION_QUERY_TYPE : 0, result);
+    }
+
 }
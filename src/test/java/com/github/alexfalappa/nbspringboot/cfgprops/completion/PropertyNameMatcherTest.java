@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.cfgprops.completion;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.Deprecation;
+
+import static com.github.alexfalappa.nbspringboot.cfgprops.completion.PropertyNameMatcher.NO_MATCH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PropertyNameMatcherTest {
+
+    private static final List<ConfigurationMetadataProperty> PROPS = List.of(
+            property("server.max-http-header-size", false),
+            property("server.port", false),
+            property("server.servlet.context-path", false),
+            property("spring.data.redis.port", false),
+            property("spring.datasource.url", false),
+            property("spring.datasource.username", false),
+            property("spring.redis.port", true)
+    );
+
+    @AfterEach
+    public void clearRecent() {
+        RecentProperties.clear();
+    }
+
+    @Test
+    public void testSubstring() {
+        assertNotEquals(NO_MATCH, PropertyNameMatcher.score("datasource", "spring.datasource.url"));
+        assertTrue(PropertyNameMatcher.score("port", "server.port") > PropertyNameMatcher.score("port", "spring.data.redis.port"));
+    }
+
+    @Test
+    public void testSegmentAbbreviation() {
+        assertNotEquals(NO_MATCH, PropertyNameMatcher.score("s.d.url", "spring.datasource.url"));
+        assertNotEquals(NO_MATCH, PropertyNameMatcher.score("sdu", "spring.datasource.url"));
+        assertEquals(NO_MATCH, PropertyNameMatcher.score("s.d.url", "server.port"));
+    }
+
+    @Test
+    public void testCamelHump() {
+        assertNotEquals(NO_MATCH, PropertyNameMatcher.score("maxHttpHeaderSize", "server.max-http-header-size"));
+        assertNotEquals(NO_MATCH, PropertyNameMatcher.score("serverPort", "server.port"));
+        // humps match segment starts only
+        assertEquals(NO_MATCH, PropertyNameMatcher.score("serverOrt", "server.port"));
+    }
+
+    @Test
+    public void testTypo() {
+        // transposition, substitution, deletion
+        assertNotEquals(NO_MATCH, PropertyNameMatcher.score("sprnig", "spring.datasource.url"));
+        assertNotEquals(NO_MATCH, PropertyNameMatcher.score("dataseurce", "spring.datasource.url"));
+        assertNotEquals(NO_MATCH, PropertyNameMatcher.score("datsource", "spring.datasource.url"));
+        // too short to tolerate typos
+        assertEquals(NO_MATCH, PropertyNameMatcher.score("prt", "server.servlet.context-path"));
+        assertEquals(NO_MATCH, PropertyNameMatcher.score("xyz", "spring.datasource.url"));
+    }
+
+    @Test
+    public void testRank() {
+        final List<String> ranked = ids(PropertyNameMatcher.rank(PROPS, "port", 10, true, prop -> true));
+
+        assertEquals(List.of("server.port", "spring.data.redis.port", "spring.redis.port"), ranked);
+    }
+
+    @Test
+    public void testRankLimitAndRecent() {
+        RecentProperties.recordUse("spring.data.redis.port");
+
+        final List<String> ranked = ids(PropertyNameMatcher.rank(PROPS, "port", 1, true, prop -> true));
+
+        assertEquals(List.of("spring.data.redis.port"), ranked);
+    }
+
+    @Test
+    public void testRankEmptyPattern() {
+        final List<ConfigurationMetadataProperty> ranked = PropertyNameMatcher.rank(PROPS, "", 1, true,
+                prop -> !prop.isDeprecated());
+
+        assertEquals(6, ranked.size());
+    }
+
+    private static ConfigurationMetadataProperty property(String id, boolean deprecated) {
+        final ConfigurationMetadataProperty ret = new ConfigurationMetadataProperty();
+        ret.setId(id);
+        if (deprecated) {
+            ret.setDeprecation(new Deprecation());
+        }
+        return ret;
+    }
+
+    private static List<String> ids(List<ConfigurationMetadataProperty> props) {
+        return props.stream().map(ConfigurationMetadataProperty::getId).toList();
+    }
+
+}
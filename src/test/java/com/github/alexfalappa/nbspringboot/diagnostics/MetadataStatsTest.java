@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.diagnostics;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MetadataStatsTest {
+
+    @Test
+    public void testLatencyHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            histogram.record(3_000);
+        }
+        histogram.record(100_000);
+        histogram.record(5_000_000_000L);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(4, histogram.getPercentileMicros(50));
+        assertEquals(128, histogram.getPercentileMicros(99));
+        // latencies beyond the last bucket are counted in it
+        assertEquals(1 << 20, histogram.getPercentileMicros(100));
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMicros(99));
+    }
+
+    @Test
+    public void testRecording() {
+        final MetadataStats stats = new MetadataStats("/projects/demo", "demo");
+        stats.recordRefresh(120, 1500, 4096);
+        stats.recordRefresh(80, 1600, 8192);
+        stats.recordRootLoad("fast.jar", 5, 10);
+        stats.recordRootLoad("slow.jar", 50, 200);
+        stats.recordCacheHit();
+        stats.recordCacheMiss();
+        stats.recordCacheMiss();
+
+        assertEquals(2, stats.getRefreshCount());
+        assertEquals(80, stats.getLastRefreshMillis());
+        assertEquals(120, stats.getMaxRefreshMillis());
+        assertEquals(1600, stats.getPropertyCount());
+        assertEquals(1, stats.getCacheHits());
+        assertEquals(2, stats.getCacheMisses());
+        assertEquals(List.of("slow.jar", "fast.jar"), stats.slowestRoots(5).stream().map(MetadataStats.RootLoad::root).toList());
+        assertEquals("slow.jar: 50 ms, 200 properties", stats.getSlowestRootLoads()[0]);
+
+        stats.recordCompletion(20_000, false);
+        stats.recordCompletion(300_000_000, true);
+
+        assertEquals(2, stats.getCompletionCount());
+        assertEquals(32, stats.getCompletionP50Micros());
+        assertEquals(1 << 19, stats.getCompletionP99Micros());
+        assertEquals(1, stats.getPartialCompletions());
+
+        stats.recordEviction();
+
+        assertEquals(1, stats.getEvictions());
+        assertEquals(0, stats.getPropertyCount());
+        assertEquals(0, stats.getEstimatedHeapBytes());
+
+        stats.reset();
+
+        assertEquals(0, stats.getRefreshCount());
+        assertEquals(0, stats.getCacheMisses());
+        assertEquals(0, stats.getEvictions());
+        assertEquals(0, stats.getCompletionCount());
+        assertEquals(0, stats.getPartialCompletions());
+        assertEquals(0, stats.slowestRoots(5).size());
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.netbeans.api.java.classpath.ClassPath;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ClassLoaderManagerTest {
+
+    private static final String RESOURCE = "com/github/alexfalappa/nbspringboot/projects/service/api/ClassLoaderManagerTest.class";
+
+    @Test
+    public void testSharedLoader() throws Exception {
+        final ClassPath cp = testClassesPath();
+        final ClassLoaderManager manager = ClassLoaderManager.forClassPath(cp);
+
+        final ClassLoader loader = manager.getClassLoader();
+
+        assertSame(manager, ClassLoaderManager.forClassPath(cp));
+        assertSame(loader, manager.getClassLoader());
+        assertNotNull(loader.getResource(RESOURCE));
+        // isolated from the classes of the caller
+        assertNotSame(getClass(), loader.loadClass(getClass().getName()));
+        ClassLoaderManager.release(cp);
+    }
+
+    @Test
+    public void testRelease() {
+        final ClassPath cp = testClassesPath();
+        final ClassLoaderManager manager = ClassLoaderManager.forClassPath(cp);
+        final ClassLoader loader = manager.getClassLoader();
+
+        ClassLoaderManager.release(cp);
+
+        // closed loaders no longer find resources
+        assertNull(loader.getResource(RESOURCE));
+        assertEquals(1, manager.getVersion());
+        assertNotSame(manager, ClassLoaderManager.forClassPath(cp));
+        ClassLoaderManager.release(cp);
+    }
+
+    @Test
+    public void testTypeShape() {
+        final ClassPath cp = testClassesPath();
+        final ClassLoaderManager manager = ClassLoaderManager.forClassPath(cp);
+
+        final TypeShape shape = manager.getTypeShape(Sample.class.getName()).get();
+
+        assertEquals(List.of("FIRST", "SECOND"), shape.enumConstants());
+        // canonical names of nested classes are resolved as well
+        assertEquals(shape, manager.getTypeShape(Sample.class.getCanonicalName()).get());
+        assertTrue(manager.getTypeShape("com.example.Missing").isEmpty());
+        ClassLoaderManager.release(cp);
+    }
+
+    private ClassPath testClassesPath() {
+        final ClassPath.Entry entry = mock(ClassPath.Entry.class);
+        when(entry.getURL()).thenReturn(getClass().getProtectionDomain().getCodeSource().getLocation());
+        final ClassPath cp = mock(ClassPath.class);
+        when(cp.entries()).thenReturn(List.of(entry));
+        return cp;
+    }
+
+    private enum Sample {
+        FIRST, SECOND
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DependencyIndexTest {
+
+    private final DependencyIndex index = new DependencyIndex(List.of(
+            new DependencyIndex.Entry("org.springframework.boot", "spring-boot-starter-web", "3.4.5", "compile", true),
+            new DependencyIndex.Entry("org.springframework.boot", "spring-boot-starter", "3.4.5", "compile", false),
+            new DependencyIndex.Entry("org.springframework.boot", "spring-boot-devtools", "3.4.5", "runtime", true),
+            new DependencyIndex.Entry("org.springframework", "spring-web", "6.2.6", "compile", false)
+    ));
+
+    @Test
+    public void testFind() {
+        assertEquals("3.4.5", index.find("org.springframework.boot", "spring-boot-starter").get().version());
+        assertTrue(index.find("org.springframework.boot", "spring-boot-actuator").isEmpty());
+    }
+
+    @Test
+    public void testFindByArtifactIdContaining() {
+        assertEquals(List.of("spring-boot-starter-web", "spring-web"), artifactIds(index.findByArtifactIdContaining("web")));
+        assertEquals(List.of("spring-boot-starter-web", "spring-boot-starter"),
+                artifactIds(index.findByArtifactIdContaining("boot-starter")));
+        assertEquals(4, index.findByArtifactIdContaining("").size());
+        assertTrue(index.findByArtifactIdContaining("webflux").isEmpty());
+    }
+
+    @Test
+    public void testHasDirectArtifactIdContaining() {
+        assertTrue(index.hasDirectArtifactIdContaining("devtools"));
+        // only a transitive dependency matches
+        assertFalse(index.hasDirectArtifactIdContaining("spring-web"));
+    }
+
+    @Test
+    public void testOfMavenProject() {
+        final MavenProject mvnProject = mock(MavenProject.class);
+        final Artifact artifact = mock(Artifact.class);
+        when(artifact.getGroupId()).thenReturn("org.springframework.boot");
+        when(artifact.getArtifactId()).thenReturn("spring-boot-starter");
+        when(artifact.getVersion()).thenReturn("3.4.5");
+        when(artifact.getScope()).thenReturn("compile");
+        when(mvnProject.getArtifacts()).thenReturn(Set.of(artifact));
+        final Dependency declared = new Dependency();
+        declared.setGroupId("org.projectlombok");
+        declared.setArtifactId("lombok");
+        declared.setVersion("1.18.38");
+        when(mvnProject.getDependencies()).thenReturn(List.of(declared));
+
+        final DependencyIndex built = DependencyIndex.of(mvnProject);
+
+        assertFalse(built.find("org.springframework.boot", "spring-boot-starter").get().direct());
+        // declared but not resolved
+        final DependencyIndex.Entry lombok = built.find("org.projectlombok", "lombok").get();
+        assertTrue(lombok.direct());
+        assertEquals("org.projectlombok:lombok:1.18.38:compile", lombok.coordinates());
+    }
+
+    private static List<String> artifactIds(List<DependencyIndex.Entry> entries) {
+        return entries.stream().map(DependencyIndex.Entry::artifactId).toList();
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PropertyTypeTest {
+
+    @Test
+    public void testShared() {
+        assertSame(PropertyType.of("java.lang.String"), PropertyType.of(new String("java.lang.String")));
+    }
+
+    @Test
+    public void testSimple() {
+        final PropertyType type = PropertyType.of("java.time.Duration");
+
+        assertFalse(type.isMap());
+        assertFalse(type.isSequence());
+        assertNull(type.getKeyType());
+        assertNull(type.getValueType());
+    }
+
+    @Test
+    public void testMap() {
+        final PropertyType type = PropertyType.of("java.util.Map<java.lang.String,java.util.List<java.lang.String>>");
+
+        assertTrue(type.isMap());
+        assertFalse(type.isCollection());
+        assertEquals("java.lang.String", type.getKeyType());
+        assertEquals("java.util.List<java.lang.String>", type.getValueType());
+    }
+
+    @Test
+    public void testCollectionAndArray() {
+        final PropertyType list = PropertyType.of("java.util.List<java.nio.charset.Charset>");
+        final PropertyType array = PropertyType.of("java.lang.String[]");
+
+        assertTrue(list.isCollection());
+        assertTrue(list.isSequence());
+        assertEquals("java.nio.charset.Charset", list.getValueType());
+        assertTrue(array.isArray());
+        assertTrue(array.isSequence());
+        assertEquals("java.lang.String", array.getValueType());
+    }
+
+    @Test
+    public void testValueCompleters() {
+        assertEquals(Set.of(ValueCompleter.BOOLEAN), PropertyType.of("java.lang.Boolean").getValueCompleters());
+        assertEquals(Set.of(ValueCompleter.DURATION_UNIT), PropertyType.of("java.time.Duration").getValueCompleters());
+        assertTrue(PropertyType.of("java.lang.String").getValueCompleters().isEmpty());
+        assertTrue(PropertyType.of("java.util.List<java.lang.String>").getValueCompleters().isEmpty());
+    }
+
+    @Test
+    public void testValueCompletersOfMapValues() {
+        final PropertyType type = PropertyType.of("java.util.Map<java.lang.String,java.util.Locale>");
+        final PropertyType enumMap = PropertyType.of("java.util.Map<java.lang.String,org.example.Level>");
+
+        assertEquals(Set.of(ValueCompleter.LOCALE), type.getValueCompleters());
+        assertEquals(Set.of(ValueCompleter.ENUM), enumMap.getValueCompleters());
+        assertEquals(List.of("org.example.Level"), enumMap.getEnumTypes());
+    }
+
+    @Test
+    public void testEnumTypes() {
+        assertEquals(List.of("org.example.Mode"), PropertyType.of("org.example.Mode").getEnumTypes());
+        // java.lang types and primitives are never enums
+        assertTrue(PropertyType.of("java.lang.Integer").getEnumTypes().isEmpty());
+        assertTrue(PropertyType.of("int").getEnumTypes().isEmpty());
+        assertTrue(PropertyType.of("org.example.Mode[]").getEnumTypes().isEmpty());
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeShapeTest {
+
+    @Test
+    public void testEnum() throws IOException {
+        final TypeShape shape = read("java/util/concurrent/TimeUnit");
+
+        assertTrue(shape.isEnum());
+        assertFalse(shape.isAbstract());
+        assertEquals("java.lang.Enum", shape.superName());
+        assertEquals(List.of("NANOSECONDS", "MICROSECONDS", "MILLISECONDS", "SECONDS", "MINUTES", "HOURS", "DAYS"),
+                shape.enumConstants());
+    }
+
+    @Test
+    public void testAbstractClass() throws IOException {
+        final TypeShape shape = read("java/util/AbstractList");
+
+        assertEquals("java.util.AbstractList", shape.binaryName());
+        assertTrue(shape.isAbstract());
+        assertFalse(shape.isInterface());
+        assertEquals("java.util.AbstractCollection", shape.superName());
+        assertEquals(List.of("java.util.List"), shape.interfaces());
+        assertTrue(shape.enumConstants().isEmpty());
+    }
+
+    @Test
+    public void testNestedInterface() throws IOException {
+        final TypeShape shape = read("java/util/Map$Entry");
+
+        assertEquals("java.util.Map$Entry", shape.binaryName());
+        assertTrue(shape.isInterface());
+        assertTrue(shape.isAbstract());
+    }
+
+    @Test
+    public void testObject() throws IOException {
+        assertNull(read("java/lang/Object").superName());
+    }
+
+    @Test
+    public void testNotAClassFile() {
+        assertThrows(IOException.class, () -> TypeShape.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4})));
+    }
+
+    private static TypeShape read(String path) throws IOException {
+        try (InputStream in = ClassLoader.getSystemResourceAsStream(path + ".class")) {
+            return TypeShape.read(in);
+        }
+    }
+
+}
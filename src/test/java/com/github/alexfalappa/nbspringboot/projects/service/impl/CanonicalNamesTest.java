@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CanonicalNamesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"spring.jpa.open-in-view", "spring.jpa.openInView", "spring.jpa.open_in_view",
+        "SPRING.JPA.OPEN-IN-VIEW", "spring.jpa.openinview"})
+    public void testCanonicalize(String name) {
+        assertEquals("spring.jpa.openinview", CanonicalNames.canonicalize(name));
+    }
+
+    @Test
+    public void testCanonicalizeBrackets() {
+        assertEquals("spring.profiles.include[0]", CanonicalNames.canonicalize("spring.profiles.include[0]"));
+        assertEquals("logging.level[com.acme.Foo]".toLowerCase(), CanonicalNames.canonicalize("logging.level[com.acme.Foo]"));
+    }
+
+    @Test
+    public void testStripIndex() {
+        assertEquals("spring.profiles.include", CanonicalNames.stripIndex("spring.profiles.include[12]"));
+        assertNull(CanonicalNames.stripIndex("spring.profiles.include"));
+    }
+
+}
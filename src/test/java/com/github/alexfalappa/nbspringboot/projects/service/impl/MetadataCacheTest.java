@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.Deprecation;
+import org.springframework.boot.configurationmetadata.ValueHint;
+import org.springframework.boot.configurationmetadata.ValueProvider;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MetadataCacheTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+        prop.setId("server.port");
+        prop.setName("port");
+        prop.setType("java.lang.Integer");
+        prop.setDescription("Server HTTP port.");
+        prop.setDefaultValue(8080);
+        ConfigurationMetadataProperty deprecated = new ConfigurationMetadataProperty();
+        deprecated.setId("server.old-names");
+        deprecated.setType("java.util.List<java.lang.String>");
+        deprecated.setDefaultValue(new Object[]{"a", "b"});
+        Deprecation depr = new Deprecation();
+        depr.setLevel(Deprecation.Level.ERROR);
+        depr.setReplacement("server.new-names");
+        deprecated.setDeprecation(depr);
+        ValueHint hint = new ValueHint();
+        hint.setValue("none");
+        hint.setDescription("No names.");
+        deprecated.getHints().getValueHints().add(hint);
+        ValueProvider provider = new ValueProvider();
+        provider.setName("handle-as");
+        provider.getParameters().put("target", "java.lang.String");
+        deprecated.getHints().getKeyProviders().add(provider);
+        Map<String, ConfigurationMetadataProperty> props = new LinkedHashMap<>();
+        props.put(prop.getId(), prop);
+        props.put(deprecated.getId(), deprecated);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        MetadataCache.writeProperties(new DataOutputStream(baos), props);
+        Map<String, ConfigurationMetadataProperty> result = MetadataCache.readProperties(
+                new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+
+        assertEquals(props.keySet(), result.keySet());
+        ConfigurationMetadataProperty resProp = result.get("server.port");
+        assertEquals("port", resProp.getName());
+        assertEquals("java.lang.Integer", resProp.getType());
+        assertEquals("Server HTTP port.", resProp.getDescription());
+        assertEquals(8080, resProp.getDefaultValue());
+        assertNull(resProp.getDeprecation());
+        ConfigurationMetadataProperty resDepr = result.get("server.old-names");
+        assertArrayEquals(new Object[]{"a", "b"}, (Object[]) resDepr.getDefaultValue());
+        assertEquals(Deprecation.Level.ERROR, resDepr.getDeprecation().getLevel());
+        assertEquals("server.new-names", resDepr.getDeprecation().getReplacement());
+        assertEquals("none", resDepr.getHints().getValueHints().get(0).getValue());
+        assertEquals("No names.", resDepr.getHints().getValueHints().get(0).getDescription());
+        assertEquals("handle-as", resDepr.getHints().getKeyProviders().get(0).getName());
+        assertEquals("java.lang.String", resDepr.getHints().getKeyProviders().get(0).getParameters().get("target"));
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.Deprecation;
+import org.springframework.boot.configurationmetadata.ValueHint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetadataDetailsTest {
+
+    @Test
+    public void testSplitKeepsCoreAndReadsDetails() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Map<String, ConfigurationMetadataProperty> lazy = MetadataDetails.split("test", full(), (id, position) -> {
+            reads.incrementAndGet();
+            return full().get(id);
+        });
+        final ConfigurationMetadataProperty prop = lazy.get("server.port");
+
+        assertEquals("server.port", prop.getId());
+        assertEquals("java.lang.Integer", prop.getType());
+        assertTrue(prop.isDeprecated());
+        assertEquals(Deprecation.Level.ERROR, prop.getDeprecation().getLevel());
+        assertEquals(0, reads.get());
+        assertEquals("Server port.", prop.getDescription());
+        assertEquals(1, reads.get());
+        // details of a recently used property are not read again
+        assertEquals(8080, prop.getDefaultValue());
+        assertEquals("8080", prop.getHints().getValueHints().get(0).getValue());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testReadsAtPosition() {
+        final MetadataDetails details = new MetadataDetails("test", (id, position) -> {
+            assertEquals(42L, position);
+            return full().get(id);
+        });
+        final LazyMetadataProperty prop = new LazyMetadataProperty("server.port", "port", "java.lang.Integer", null, details,
+                42);
+
+        assertEquals("Server port.", prop.getDescription());
+        assertFalse(prop.isDeprecated());
+    }
+
+    @Test
+    public void testFailedRead() {
+        final Map<String, ConfigurationMetadataProperty> lazy = MetadataDetails.split("test", full(), (id, position) -> {
+            throw new IOException("gone");
+        });
+        final ConfigurationMetadataProperty prop = lazy.get("server.port");
+
+        assertNull(prop.getDescription());
+        assertTrue(prop.getHints().getValueHints().isEmpty());
+        assertEquals("java.lang.Integer", prop.getType());
+    }
+
+    private static Map<String, ConfigurationMetadataProperty> full() {
+        Map<String, ConfigurationMetadataProperty> ret = new LinkedHashMap<>();
+        ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+        prop.setId("server.port");
+        prop.setType("java.lang.Integer");
+        prop.setDescription("Server port.");
+        prop.setDefaultValue(8080);
+        Deprecation deprecation = new Deprecation();
+        deprecation.setLevel(Deprecation.Level.ERROR);
+        prop.setDeprecation(deprecation);
+        ValueHint hint = new ValueHint();
+        hint.setValue("8080");
+        prop.getHints().getValueHints().add(hint);
+        ret.put(prop.getId(), prop);
+        return ret;
+    }
+
+}
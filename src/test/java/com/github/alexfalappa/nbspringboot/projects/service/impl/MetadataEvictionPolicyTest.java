@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetadataEvictionPolicyTest {
+
+    @Test
+    public void testSelectIdle() {
+        final Map<String, Long> lastAccess = Map.of("recent", 900L, "old", 100L, "older", 50L, "edge", 500L);
+
+        final List<String> idle = MetadataEvictionPolicy.selectIdle(lastAccess.keySet(), lastAccess::get, 500);
+
+        // least recently used first, projects used at the threshold are kept
+        assertEquals(List.of("older", "old"), idle);
+    }
+
+    @Test
+    public void testSelectIdleNone() {
+        assertTrue(MetadataEvictionPolicy.selectIdle(List.of(1000L, 2000L), Long::longValue, 1000).isEmpty());
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.boot.configurationmetadata.Deprecation;
+import org.springframework.boot.configurationmetadata.Hints;
+import org.springframework.boot.configurationmetadata.ValueHint;
+import org.springframework.boot.configurationmetadata.ValueProvider;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetadataJsonReaderTest {
+
+    private static final String METADATA_JSON = "META-INF/spring-configuration-metadata.json";
+
+    @Test
+    public void testSampleMetadata() throws IOException {
+        final Map<String, ConfigurationMetadataProperty> props;
+        try (InputStream is = getClass().getResourceAsStream("/sample-metadata.json")) {
+            props = MetadataJsonReader.read(is);
+        }
+
+        assertEquals(List.of("server.port", "server.ssl.ciphers", "logging.level", "old.prop", "old.prop2", "big"),
+                new ArrayList<>(props.keySet()));
+        final ConfigurationMetadataProperty port = props.get("server.port");
+        assertEquals("port", port.getName());
+        assertEquals("java.lang.Integer", port.getType());
+        assertEquals("Server HTTP port.", port.getShortDescription());
+        assertEquals(8080, port.getDefaultValue());
+        assertEquals("any", port.getHints().getValueProviders().get(0).getName());
+        assertEquals("ciphers", props.get("server.ssl.ciphers").getName());
+        assertArrayEquals(new Object[]{"A", "B"}, (Object[]) props.get("server.ssl.ciphers").getDefaultValue());
+        final Hints levelHints = props.get("logging.level").getHints();
+        assertEquals("root", levelHints.getKeyHints().get(0).getValue());
+        assertEquals("logger-name", levelHints.getKeyProviders().get(0).getName());
+        assertEquals(2, levelHints.getValueHints().size());
+        assertEquals(Deprecation.Level.WARNING, props.get("old.prop").getDeprecation().getLevel());
+        final Deprecation deprecation = props.get("old.prop2").getDeprecation();
+        assertEquals(Deprecation.Level.ERROR, deprecation.getLevel());
+        assertEquals("Gone.", deprecation.getShortReason());
+        assertEquals("new.prop", deprecation.getReplacement());
+        assertEquals(12345678901L, props.get("big").getDefaultValue());
+        assertNull(props.get("logging.level").getDeprecation());
+    }
+
+    @Test
+    public void testEquivalentToBuilder() throws IOException {
+        final List<URL> resources = Collections.list(getClass().getClassLoader().getResources(METADATA_JSON));
+        assertFalse(resources.isEmpty());
+        for (URL url : resources) {
+            final Map<String, ConfigurationMetadataProperty> expected;
+            try (InputStream is = url.openStream()) {
+                expected = ConfigurationMetadataRepositoryJsonBuilder.create().withJsonResource(is).build().getAllProperties();
+            }
+            final Map<String, ConfigurationMetadataProperty> actual;
+            try (InputStream is = url.openStream()) {
+                actual = MetadataJsonReader.read(is);
+            }
+            assertEquals(expected.keySet(), actual.keySet(), url.toString());
+            for (ConfigurationMetadataProperty exp : expected.values()) {
+                assertEquivalent(exp, actual.get(exp.getId()));
+            }
+        }
+    }
+
+    private static void assertEquivalent(ConfigurationMetadataProperty exp, ConfigurationMetadataProperty act) {
+        final String id = exp.getId();
+        assertNotNull(act, id);
+        assertEquals(exp.getName(), act.getName(), id);
+        assertEquals(exp.getType(), act.getType(), id);
+        assertEquals(exp.getDescription(), act.getDescription(), id);
+        assertEquals(exp.getShortDescription(), act.getShortDescription(), id);
+        assertTrue(Objects.deepEquals(exp.getDefaultValue(), act.getDefaultValue()), id);
+        assertEquals(exp.getDeprecation() == null, act.getDeprecation() == null, id);
+        if (exp.getDeprecation() != null) {
+            assertEquals(exp.getDeprecation().getLevel(), act.getDeprecation().getLevel(), id);
+            assertEquals(exp.getDeprecation().getReason(), act.getDeprecation().getReason(), id);
+            assertEquals(exp.getDeprecation().getReplacement(), act.getDeprecation().getReplacement(), id);
+        }
+        assertHintsEquivalent(id, exp.getHints().getKeyHints(), act.getHints().getKeyHints());
+        assertHintsEquivalent(id, exp.getHints().getValueHints(), act.getHints().getValueHints());
+        assertProvidersEquivalent(id, exp.getHints().getKeyProviders(), act.getHints().getKeyProviders());
+        assertProvidersEquivalent(id, exp.getHints().getValueProviders(), act.getHints().getValueProviders());
+    }
+
+    private static void assertHintsEquivalent(String id, List<ValueHint> exp, List<ValueHint> act) {
+        assertEquals(exp.size(), act.size(), id);
+        for (int i = 0; i < exp.size(); i++) {
+            assertTrue(Objects.deepEquals(exp.get(i).getValue(), act.get(i).getValue()), id);
+            assertEquals(exp.get(i).getShortDescription(), act.get(i).getShortDescription(), id);
+        }
+    }
+
+    private static void assertProvidersEquivalent(String id, List<ValueProvider> exp, List<ValueProvider> act) {
+        assertEquals(exp.size(), act.size(), id);
+        for (int i = 0; i < exp.size(); i++) {
+            assertEquals(exp.get(i).getName(), act.get(i).getName(), id);
+            assertEquals(exp.get(i).getParameters().keySet(), act.get(i).getParameters().keySet(), id);
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MetadataSnapshotTest {
+
+    @Test
+    public void testUpdateAddsAndRemovesRoots() {
+        final Map<String, ConfigurationMetadataProperty> jarA = props("a.one", "shared");
+        final Map<String, ConfigurationMetadataProperty> jarB = props("b.one", "shared", "b.map");
+        final MetadataSnapshot first = MetadataSnapshot.EMPTY.update(roots("a", jarA, "b", jarB));
+
+        assertEquals(Set.of("a.one", "b.one", "shared", "b.map"), first.getProperties().keySet());
+        assertSame(jarA.get("shared"), first.getProperties().get("shared"));
+        assertEquals(Set.of("b.map"), first.getMapProperties());
+
+        // removing the first jar falls back to the definition in the second one
+        final MetadataSnapshot second = first.update(roots("b", jarB));
+
+        assertEquals(Set.of("b.one", "shared", "b.map"), second.getProperties().keySet());
+        assertSame(jarB.get("shared"), second.getProperties().get("shared"));
+        assertEquals(first.getVersion() + 1, second.getVersion());
+
+        // adding a jar before the second one gives it precedence
+        final MetadataSnapshot third = second.update(roots("a", jarA, "b", jarB));
+
+        assertSame(jarA.get("shared"), third.getProperties().get("shared"));
+    }
+
+    @Test
+    public void testUpdateRemovedOwnerWithLaterAddedDuplicate() {
+        final Map<String, ConfigurationMetadataProperty> jarX = props("shared");
+        final Map<String, ConfigurationMetadataProperty> jarA = props("a.one", "shared");
+        final MetadataSnapshot first = MetadataSnapshot.EMPTY.update(roots("x", jarX, "a", jarA));
+
+        assertSame(jarX.get("shared"), first.getProperties().get("shared"));
+
+        // the unchanged jar before the added one takes over the property of the removed jar
+        final Map<String, ConfigurationMetadataProperty> jarY = props("shared", "y.one");
+        final MetadataSnapshot second = first.update(roots("a", jarA, "y", jarY));
+
+        assertSame(jarA.get("shared"), second.getProperties().get("shared"));
+        assertEquals(Set.of("a.one", "shared", "y.one"), second.getProperties().keySet());
+    }
+
+    @Test
+    public void testUpdateReorderedRoots() {
+        final Map<String, ConfigurationMetadataProperty> jarA = props("a.one", "shared");
+        final Map<String, ConfigurationMetadataProperty> jarB = props("b.one", "shared");
+        final MetadataSnapshot first = MetadataSnapshot.EMPTY.update(roots("a", jarA, "b", jarB));
+        final MetadataSnapshot second = first.update(roots("b", jarB, "a", jarA));
+
+        assertEquals(first.getVersion() + 1, second.getVersion());
+        assertEquals(List.of("b", "a"), List.copyOf(second.getContributions().keySet()));
+        assertSame(jarB.get("shared"), second.getProperties().get("shared"));
+        assertEquals(Set.of("a.one", "b.one", "shared"), second.getProperties().keySet());
+    }
+
+    @Test
+    public void testUpdateUnchanged() {
+        final Map<String, ConfigurationMetadataProperty> jarA = props("a.one");
+        final MetadataSnapshot first = MetadataSnapshot.EMPTY.update(roots("a", jarA));
+
+        assertSame(first, first.update(roots("a", jarA)));
+    }
+
+    @Test
+    public void testCanonicalNameFollowsClasspathOrder() {
+        final Map<String, ConfigurationMetadataProperty> jarA = props("server.foo-bar");
+        final Map<String, ConfigurationMetadataProperty> jarB = props("server.foobar");
+        final MetadataSnapshot first = MetadataSnapshot.EMPTY.update(roots("a", jarA, "b", jarB));
+
+        assertSame(jarA.get("server.foo-bar"), first.getByCanonicalName("server.foobar"));
+
+        final MetadataSnapshot second = first.update(roots("b", jarB, "a", jarA));
+
+        assertSame(jarB.get("server.foobar"), second.getByCanonicalName("server.foobar"));
+    }
+
+    @Test
+    public void testSplice() {
+        final Map<String, ConfigurationMetadataProperty> jarA = props("a.one", "shared");
+        final MetadataSnapshot first = MetadataSnapshot.EMPTY.update(roots("a", jarA));
+
+        // a new root spliced first takes precedence
+        final Map<String, ConfigurationMetadataProperty> local = props("local.one", "shared");
+        final MetadataSnapshot second = first.splice("local", local, true);
+
+        assertEquals(List.of("local", "a"), List.copyOf(second.getContributions().keySet()));
+        assertSame(local.get("shared"), second.getProperties().get("shared"));
+
+        // replacing the root keeps its position
+        final Map<String, ConfigurationMetadataProperty> changed = props("local.two", "shared", "local.map");
+        final MetadataSnapshot third = second.splice("local", changed, true);
+
+        assertEquals(List.of("local", "a"), List.copyOf(third.getContributions().keySet()));
+        assertEquals(Set.of("a.one", "shared", "local.two", "local.map"), third.getProperties().keySet());
+        assertSame(changed.get("shared"), third.getProperties().get("shared"));
+        assertEquals(Set.of("local.map"), third.getMapProperties());
+
+        // removing the root falls back to the other definitions
+        final MetadataSnapshot fourth = third.splice("local", null, true);
+
+        assertEquals(Set.of("a.one", "shared"), fourth.getProperties().keySet());
+        assertSame(jarA.get("shared"), fourth.getProperties().get("shared"));
+    }
+
+    @Test
+    public void testSpliceLast() {
+        final Map<String, ConfigurationMetadataProperty> jarA = props("shared");
+        final MetadataSnapshot first = MetadataSnapshot.EMPTY.update(roots("a", jarA));
+        final MetadataSnapshot second = first.splice("extra", props("shared", "extra.one"), false);
+
+        assertEquals(List.of("a", "extra"), List.copyOf(second.getContributions().keySet()));
+        assertSame(jarA.get("shared"), second.getProperties().get("shared"));
+    }
+
+    private static Map<String, ConfigurationMetadataProperty> props(String... ids) {
+        Map<String, ConfigurationMetadataProperty> ret = new LinkedHashMap<>();
+        for (String id : ids) {
+            ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+            prop.setId(id);
+            prop.setType(id.endsWith(".map") ? "java.util.Map<java.lang.String,java.lang.String>" : "java.lang.String");
+            ret.put(id, prop);
+        }
+        return ret;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> roots(Object... idsAndProps) {
+        LinkedHashMap<String, Map<String, ConfigurationMetadataProperty>> ret = new LinkedHashMap<>();
+        for (int i = 0; i < idsAndProps.length; i += 2) {
+            ret.put((String) idsAndProps[i], (Map<String, ConfigurationMetadataProperty>) idsAndProps[i + 1]);
+        }
+        return ret;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PropertyNameIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "server.port",
+            "server.servlet.context-path",
+            "server.servlet.session.timeout",
+            "spring.datasource.url",
+            "spring.datasource.username",
+            "spring.data.mongodb.uri",
+            "spring.jpa.show-sql",
+            "logging.level"
+    );
+    private final PropertyNameIndex index = new PropertyNameIndex(props());
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "s", "server.", "server.servlet", "server.servlet.s", "spring.data", "spring.datasource.url",
+        "logging.level", "logging.levels", "x", "spring.jpa.show-sql="})
+    public void testByPrefix(String prefix) {
+        List<String> expected = NAMES.stream().filter(n -> n.startsWith(prefix)).sorted().collect(Collectors.toList());
+
+        assertEquals(expected, ids(index.byPrefix(prefix)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"e", "se", "ser", "servlet", "data", "url", "ssion.ti", "zzz", "-sql"})
+    public void testContaining(String filter) {
+        List<String> expected = NAMES.stream().filter(n -> n.contains(filter)).sorted().collect(Collectors.toList());
+
+        assertEquals(expected, ids(index.containing(filter)));
+    }
+
+    @Test
+    public void testContainingNull() {
+        assertEquals(NAMES.size(), index.containing(null).size());
+    }
+
+    private static List<String> ids(List<ConfigurationMetadataProperty> props) {
+        return props.stream().map(ConfigurationMetadataProperty::getId).collect(Collectors.toList());
+    }
+
+    private static Map<String, ConfigurationMetadataProperty> props() {
+        Map<String, ConfigurationMetadataProperty> ret = new HashMap<>();
+        for (String name : NAMES) {
+            ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+            prop.setId(name);
+            ret.put(name, prop);
+        }
+        return ret;
+    }
+
+}
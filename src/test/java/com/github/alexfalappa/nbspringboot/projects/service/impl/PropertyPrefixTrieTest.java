@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PropertyPrefixTrieTest {
+
+    private final PropertyPrefixTrie trie = new PropertyPrefixTrie(props(
+            "logging.level",
+            "logging.level.web",
+            "spring.jpa.properties",
+            "server.ssl.ciphers"
+    ));
+
+    @ParameterizedTest
+    @CsvSource({
+        "logging.level.com.acme, logging.level, 14",
+        "logging.level., logging.level, 14",
+        "logging.level[com.acme], logging.level, 14",
+        "logging.level.web.foo, logging.level.web, 18",
+        "logging.level.webapp, logging.level, 14",
+        "spring.jpa.properties.hibernate.format_sql, spring.jpa.properties, 22",
+        "Spring.JPA.Properties.hibernate, spring.jpa.properties, 22",
+        "server.ssl.ciphers[0], server.ssl.ciphers, 19"
+    })
+    public void testLongestMatch(String name, String property, int keyStart) {
+        final PropertyPrefixTrie.Match match = trie.longestMatch(name);
+
+        assertNotNull(match);
+        assertEquals(property, match.property().getId());
+        assertEquals(keyStart, match.keyStart());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "logging", "logging.level", "logging.lev", "logging.levels.foo", "spring.jpa"})
+    public void testNoMatch(String name) {
+        assertNull(trie.longestMatch(name));
+    }
+
+    private static Map<String, ConfigurationMetadataProperty> props(String... ids) {
+        Map<String, ConfigurationMetadataProperty> ret = new HashMap<>();
+        for (String id : ids) {
+            ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+            prop.setId(id);
+            ret.put(id, prop);
+        }
+        return ret;
+    }
+
+}
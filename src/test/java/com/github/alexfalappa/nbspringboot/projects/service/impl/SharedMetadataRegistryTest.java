@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SharedMetadataRegistryTest {
+
+    @Test
+    public void testAcquireLoadsOnceAndReleaseDrops() throws IOException {
+        final String rootId = "/repo/shared.jar@1:1";
+        final AtomicInteger loads = new AtomicInteger();
+        final SharedMetadataRegistry.Loader loader = () -> {
+            loads.incrementAndGet();
+            return props("a.one");
+        };
+        final Map<String, ConfigurationMetadataProperty> first = SharedMetadataRegistry.acquire(rootId, loader);
+        final Map<String, ConfigurationMetadataProperty> second = SharedMetadataRegistry.acquire(rootId, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(2, SharedMetadataRegistry.refCount(rootId));
+
+        SharedMetadataRegistry.release(rootId);
+        assertEquals(1, SharedMetadataRegistry.refCount(rootId));
+        SharedMetadataRegistry.release(rootId);
+        assertEquals(0, SharedMetadataRegistry.refCount(rootId));
+
+        // once dropped the metadata is loaded again
+        final Map<String, ConfigurationMetadataProperty> third = SharedMetadataRegistry.acquire(rootId, loader);
+        assertNotSame(first, third);
+        assertEquals(2, loads.get());
+        SharedMetadataRegistry.release(rootId);
+    }
+
+    @Test
+    public void testFailedLoadHoldsNoReference() {
+        final String rootId = "/repo/broken.jar@1:1";
+
+        assertThrows(IOException.class, () -> SharedMetadataRegistry.acquire(rootId, () -> {
+            throw new IOException("broken");
+        }));
+        assertEquals(0, SharedMetadataRegistry.refCount(rootId));
+    }
+
+    private static Map<String, ConfigurationMetadataProperty> props(String... ids) {
+        Map<String, ConfigurationMetadataProperty> ret = new HashMap<>();
+        for (String id : ids) {
+            ConfigurationMetadataProperty prop = new ConfigurationMetadataProperty();
+            prop.setId(id);
+            ret.put(id, prop);
+        }
+        return ret;
+    }
+
+}
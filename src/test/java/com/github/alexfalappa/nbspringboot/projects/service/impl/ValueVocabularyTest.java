@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.alexfalappa.nbspringboot.projects.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ValueVocabularyTest {
+
+    private final ValueVocabulary vocabulary = ValueVocabulary.of(List.of(
+            "UTF-8", "ISO-8859-1", "UTF-16", "x-UTF-16LE-BOM", "US-ASCII", "utf-32"));
+
+    @Test
+    public void testSortedCaseInsensitively() {
+        assertEquals(6, vocabulary.size());
+        assertEquals("ISO-8859-1", vocabulary.name(0));
+        assertEquals("iso-8859-1", vocabulary.lowercase(0));
+        assertEquals("utf-32", vocabulary.name(3));
+        assertEquals("x-UTF-16LE-BOM", vocabulary.name(5));
+    }
+
+    @Test
+    public void testPrefixRange() {
+        assertArrayEquals(new int[]{2, 5}, vocabulary.prefixRange("Utf"));
+        assertArrayEquals(new int[]{5, 5}, vocabulary.prefixRange("utf-9"));
+        assertArrayEquals(new int[]{0, 6}, vocabulary.prefixRange(""));
+    }
+
+    @Test
+    public void testContainingPrefixesFirst() {
+        assertEquals(List.of("UTF-16", "utf-32", "UTF-8", "x-UTF-16LE-BOM"), names("utf"));
+        assertEquals(List.of("UTF-16", "x-UTF-16LE-BOM"), names("-16"));
+        // short filters are scanned
+        assertEquals(List.of("ISO-8859-1", "UTF-8"), names("8"));
+        assertEquals(List.of(), names("ebcdic"));
+    }
+
+    @Test
+    public void testStopVisiting() {
+        List<String> visited = new ArrayList<>();
+        vocabulary.forEachContaining("utf", index -> visited.add(vocabulary.name(index)) && visited.size() < 2);
+
+        assertEquals(List.of("UTF-16", "utf-32"), visited);
+    }
+
+    private List<String> names(String filter) {
+        List<String> ret = new ArrayList<>();
+        vocabulary.forEachContaining(filter, index -> ret.add(vocabulary.name(index)));
+        return ret;
+    }
+
+}